@@ -0,0 +1,75 @@
+package blog.javamastery.datastructures.cache;
+
+/**
+ * Intrusive doubly linked list used by the eviction policies to keep keys in
+ * access order. The most recently used node is at the front. All operations
+ * are O(1) because callers hold on to their nodes.
+ *
+ * @param <K> the type of keys held by the nodes
+ */
+final class AccessOrderList<K> {
+
+    /**
+     * Node of the list. Policies extend it with their own bookkeeping.
+     */
+    static class Node<K> {
+        final K key;
+        Node<K> prev;
+        Node<K> next;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    // Sentinel: head.next is the most recently used node, head.prev the least recently used
+    private final Node<K> head = new Node<>(null);
+    private int size;
+
+    AccessOrderList() {
+        head.prev = head;
+        head.next = head;
+    }
+
+    void addFirst(Node<K> node) {
+        node.prev = head;
+        node.next = head.next;
+        head.next.prev = node;
+        head.next = node;
+        size++;
+    }
+
+    void remove(Node<K> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    void moveToFront(Node<K> node) {
+        remove(node);
+        addFirst(node);
+    }
+
+    /**
+     * Returns the least recently used node, or null if the list is empty.
+     */
+    Node<K> last() {
+        return head.prev == head ? null : head.prev;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        head.prev = head;
+        head.next = head;
+        size = 0;
+    }
+}
@@ -0,0 +1,208 @@
+package blog.javamastery.datastructures.cache;
+
+import blog.javamastery.datastructures.common.HashTable;
+import blog.javamastery.datastructures.hash.SimpleHashTable;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * A hash table that holds at most a fixed number of entries. Once an insertion
+ * exceeds the maximum size, the {@link EvictionPolicy} picks an entry to evict,
+ * and the eviction listener is told about it. Every operation is O(1).
+ * <p>
+ * Only {@code get} and {@code put} count as accesses for the policy;
+ * {@code containsKey} and iteration leave the eviction order untouched.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class BoundedCache<K, V> implements HashTable<K, V> {
+
+    /**
+     * Receives the entries evicted to make room for new ones. Entries removed
+     * explicitly or by {@code clear} are not reported.
+     */
+    @FunctionalInterface
+    public interface EvictionListener<K, V> {
+        void onEviction(K key, V value);
+    }
+
+    /**
+     * Snapshot of the cache counters.
+     *
+     * @param hitCount      number of {@code get} calls that found a mapping
+     * @param missCount     number of {@code get} calls that found none
+     * @param evictionCount number of entries evicted by the policy
+     */
+    public record CacheStats(long hitCount, long missCount, long evictionCount) {
+
+        /**
+         * Returns the share of lookups that were hits, or 1.0 if there were no lookups.
+         *
+         * @return the hit rate between 0.0 and 1.0
+         */
+        public double hitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+    }
+
+    private final HashTable<K, V> table = new SimpleHashTable<>();
+    private final int maximumSize;
+    private final EvictionPolicy<K> policy;
+    private final EvictionListener<? super K, ? super V> listener;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a cache with least-recently-used eviction.
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, EvictionPolicy::lru);
+    }
+
+    /**
+     * Creates a cache with the given eviction policy.
+     *
+     * @param maximumSize   the maximum number of entries
+     * @param policyFactory creates the policy for the given maximum size, for example {@code EvictionPolicy::lfu}
+     */
+    public BoundedCache(int maximumSize, IntFunction<? extends EvictionPolicy<K>> policyFactory) {
+        this(maximumSize, policyFactory, (key, value) -> {
+        });
+    }
+
+    /**
+     * Creates a cache with the given eviction policy and eviction listener.
+     *
+     * @param maximumSize   the maximum number of entries
+     * @param policyFactory creates the policy for the given maximum size, for example {@code EvictionPolicy::lfu}
+     * @param listener      called for every evicted entry
+     */
+    public BoundedCache(int maximumSize, IntFunction<? extends EvictionPolicy<K>> policyFactory,
+                        EvictionListener<? super K, ? super V> listener) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        if (policyFactory == null || listener == null) {
+            throw new IllegalArgumentException("Policy and listener cannot be null");
+        }
+        this.maximumSize = maximumSize;
+        this.policy = policyFactory.apply(maximumSize);
+        this.listener = listener;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int sizeBefore = table.size();
+        V oldValue = table.put(key, value);
+        if (table.size() == sizeBefore) {
+            policy.recordAccess(key);
+            return oldValue;
+        }
+
+        policy.recordInsertion(key);
+        while (table.size() > maximumSize) {
+            K victim = policy.evict();
+            V evicted = table.remove(victim);
+            evictionCount++;
+            listener.onEviction(victim, evicted);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public V get(K key) {
+        V value = table.get(key);
+        if (value != null || table.containsKey(key)) {
+            hitCount++;
+            policy.recordAccess(key);
+        } else {
+            missCount++;
+        }
+        return value;
+    }
+
+    @Override
+    public V remove(K key) {
+        int sizeBefore = table.size();
+        V oldValue = table.remove(key);
+        if (table.size() != sizeBefore) {
+            policy.recordRemoval(key);
+        }
+        return oldValue;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return table.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.isEmpty();
+    }
+
+    /**
+     * Removes every entry without reporting them as evicted. The counters are kept.
+     */
+    @Override
+    public void clear() {
+        table.clear();
+        policy.clear();
+    }
+
+    @Override
+    public double getLoadFactor() {
+        return table.getLoadFactor();
+    }
+
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        table.ensureCapacity(Math.min(expectedSize, maximumSize + 1));
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters accumulated since creation.
+     *
+     * @return a snapshot of the counters
+     */
+    public CacheStats stats() {
+        return new CacheStats(hitCount, missCount, evictionCount);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        table.forEach(action);
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return table.iterator();
+    }
+
+    @Override
+    public Spliterator<Entry<K, V>> spliterator() {
+        return table.spliterator();
+    }
+}
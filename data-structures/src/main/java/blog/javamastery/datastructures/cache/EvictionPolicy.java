@@ -0,0 +1,84 @@
+package blog.javamastery.datastructures.cache;
+
+/**
+ * Decides which key a {@link BoundedCache} gives up once it holds more entries
+ * than its maximum size. A policy only sees keys; the cache tells it about every
+ * insertion, access and removal, and asks it for a victim when it overflows.
+ * <p>
+ * Policies are stateful and belong to a single cache, so caches take a factory
+ * such as {@code EvictionPolicy::lru} rather than an instance.
+ *
+ * @param <K> the type of keys tracked by the policy
+ */
+public interface EvictionPolicy<K> {
+
+    /**
+     * Records a key that was just added to the cache.
+     *
+     * @param key the inserted key
+     */
+    void recordInsertion(K key);
+
+    /**
+     * Records a read or an update of a key that is present in the cache.
+     *
+     * @param key the accessed key
+     */
+    void recordAccess(K key);
+
+    /**
+     * Records a key that was removed from the cache by the caller.
+     *
+     * @param key the removed key
+     */
+    void recordRemoval(K key);
+
+    /**
+     * Chooses a key to evict and stops tracking it. Only called while the
+     * policy tracks at least one key.
+     *
+     * @return the key the cache should evict
+     */
+    K evict();
+
+    /**
+     * Forgets every tracked key.
+     */
+    void clear();
+
+    /**
+     * Returns a policy that evicts the least recently used key.
+     *
+     * @param maximumSize the maximum size of the cache
+     * @param <K>         the type of keys
+     * @return a new least-recently-used policy
+     */
+    static <K> EvictionPolicy<K> lru(int maximumSize) {
+        return new LruPolicy<>(maximumSize);
+    }
+
+    /**
+     * Returns a policy that evicts the least frequently used key, and the least
+     * recently used one among keys with the same frequency.
+     *
+     * @param maximumSize the maximum size of the cache
+     * @param <K>         the type of keys
+     * @return a new least-frequently-used policy
+     */
+    static <K> EvictionPolicy<K> lfu(int maximumSize) {
+        return new LfuPolicy<>(maximumSize);
+    }
+
+    /**
+     * Returns a W-TinyLFU policy: new keys enter a small LRU window, and only make
+     * it into the main segmented LRU region if their estimated frequency beats
+     * that of the key they would replace.
+     *
+     * @param maximumSize the maximum size of the cache
+     * @param <K>         the type of keys
+     * @return a new W-TinyLFU policy
+     */
+    static <K> EvictionPolicy<K> windowTinyLfu(int maximumSize) {
+        return new WindowTinyLfuPolicy<>(maximumSize);
+    }
+}
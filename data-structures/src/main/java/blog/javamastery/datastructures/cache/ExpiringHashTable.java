@@ -0,0 +1,414 @@
+package blog.javamastery.datastructures.cache;
+
+import blog.javamastery.datastructures.common.HashTable;
+import blog.javamastery.datastructures.hash.SimpleHashTable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A hash table whose entries disappear once their time-to-live has passed.
+ * <p>
+ * Expired entries are never returned: lookups check the expiration time of the
+ * entry they find and drop it if it is due. Entries that are not looked up again
+ * are reclaimed by a hierarchical timer wheel, which every write advances to the
+ * current time. The wheel has five levels of buckets spanning roughly a second,
+ * a minute, an hour, a day and a week; an entry sits in the coarsest bucket that
+ * still tells it apart from the current time and cascades into finer levels as
+ * that time approaches. Advancing only touches buckets whose time has come, so
+ * reclaiming costs O(1) amortized per entry instead of a scan of the table.
+ * <p>
+ * As the finest buckets span about a second, {@link #size()} may still count
+ * entries that expired less than a second ago.
+ *
+ * @param <K> the type of keys maintained by this hash table
+ * @param <V> the type of mapped values
+ */
+public class ExpiringHashTable<K, V> implements HashTable<K, V> {
+
+    /**
+     * Receives the entries reclaimed because their time-to-live passed.
+     * Entries removed explicitly or by {@code clear} are not reported.
+     */
+    @FunctionalInterface
+    public interface ExpirationListener<K, V> {
+        void onExpiration(K key, V value);
+    }
+
+    // Buckets per level of the wheel; each count is a power of two
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+
+    // Time covered by one bucket of each level, in nanoseconds: ~1.07s, ~1.14m, ~1.22h, ~1.63d, ~6.5d
+    private static final long[] SPANS = {
+            1L << 30, 1L << 36, 1L << 42, 1L << 47, 1L << 49, 1L << 49
+    };
+
+    private static final long[] SHIFTS = {
+            Long.numberOfTrailingZeros(SPANS[0]),
+            Long.numberOfTrailingZeros(SPANS[1]),
+            Long.numberOfTrailingZeros(SPANS[2]),
+            Long.numberOfTrailingZeros(SPANS[3]),
+            Long.numberOfTrailingZeros(SPANS[4])
+    };
+
+    /**
+     * Entry with its expiration time, linked into a bucket of the timer wheel.
+     */
+    private static final class Node<K, V> implements HashTable.Entry<K, V> {
+        final K key;
+        V value;
+        long expirationTime;
+        Node<K, V> prev;
+        Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = this.value;
+            this.value = value;
+            return oldValue;
+        }
+    }
+
+    private final HashTable<K, Node<K, V>> table = new SimpleHashTable<>();
+
+    // Sentinels of the circular bucket lists, indexed by level and bucket
+    private final Node<K, V>[][] wheel;
+
+    private final long defaultTimeToLive;
+    private final LongSupplier ticker;
+    private final ExpirationListener<? super K, ? super V> listener;
+
+    // Time up to which the wheel has been advanced
+    private long currentTime;
+
+    private long reclaimedCount;
+
+    /**
+     * Creates a table whose entries expire after the given time, measured with {@link System#nanoTime()}.
+     *
+     * @param timeToLive the default time-to-live of an entry
+     * @param unit       the unit of the time-to-live
+     */
+    public ExpiringHashTable(long timeToLive, TimeUnit unit) {
+        this(timeToLive, unit, System::nanoTime, (key, value) -> {
+        });
+    }
+
+    /**
+     * Creates a table with the given default time-to-live, clock and expiration listener.
+     *
+     * @param timeToLive the default time-to-live of an entry
+     * @param unit       the unit of the time-to-live
+     * @param ticker     returns the current time in nanoseconds, for example {@code System::nanoTime}
+     * @param listener   called for every entry reclaimed after it expired
+     */
+    @SuppressWarnings("unchecked")
+    public ExpiringHashTable(long timeToLive, TimeUnit unit, LongSupplier ticker,
+                             ExpirationListener<? super K, ? super V> listener) {
+        if (ticker == null || listener == null) {
+            throw new IllegalArgumentException("Ticker and listener cannot be null");
+        }
+        this.defaultTimeToLive = toNanos(timeToLive, unit);
+        this.ticker = ticker;
+        this.listener = listener;
+        this.currentTime = ticker.getAsLong();
+
+        this.wheel = new Node[BUCKETS.length][];
+        for (int level = 0; level < BUCKETS.length; level++) {
+            wheel[level] = new Node[BUCKETS[level]];
+            for (int bucket = 0; bucket < BUCKETS[level]; bucket++) {
+                Node<K, V> sentinel = new Node<>(null, null);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                wheel[level][bucket] = sentinel;
+            }
+        }
+    }
+
+    private static long toNanos(long timeToLive, TimeUnit unit) {
+        if (unit == null) {
+            throw new IllegalArgumentException("Time unit cannot be null");
+        }
+        if (timeToLive <= 0) {
+            throw new IllegalArgumentException("Time-to-live must be positive");
+        }
+        return unit.toNanos(timeToLive);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return put(key, value, defaultTimeToLive, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Associates the value with the key for the given time, instead of the default time-to-live.
+     *
+     * @param key        the key with which the value is to be associated
+     * @param value      the value to be associated with the key
+     * @param timeToLive how long the mapping lives
+     * @param unit       the unit of the time-to-live
+     * @return the previous value associated with the key, or null if there was no live mapping
+     * @throws IllegalArgumentException if the key is null or the time-to-live is not positive
+     */
+    public V put(K key, V value, long timeToLive, TimeUnit unit) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        long nanos = toNanos(timeToLive, unit);
+        long now = ticker.getAsLong();
+        advance(now);
+
+        Node<K, V> node = liveNode(key, now);
+        V oldValue = null;
+        if (node == null) {
+            node = new Node<>(key, value);
+            table.put(key, node);
+        } else {
+            oldValue = node.setValue(value);
+            unlink(node);
+        }
+
+        node.expirationTime = now + nanos;
+        schedule(node);
+        return oldValue;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = liveNode(key, ticker.getAsLong());
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V remove(K key) {
+        long now = ticker.getAsLong();
+        advance(now);
+
+        Node<K, V> node = liveNode(key, now);
+        if (node == null) {
+            return null;
+        }
+        table.remove(key);
+        unlink(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return liveNode(key, ticker.getAsLong()) != null;
+    }
+
+    /**
+     * Returns the number of mappings, after reclaiming the entries the timer wheel has reached.
+     */
+    @Override
+    public int size() {
+        advance(ticker.getAsLong());
+        return table.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all mappings without reporting them as expired.
+     */
+    @Override
+    public void clear() {
+        table.clear();
+        for (Node<K, V>[] level : wheel) {
+            for (Node<K, V> sentinel : level) {
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+            }
+        }
+    }
+
+    @Override
+    public double getLoadFactor() {
+        return table.getLoadFactor();
+    }
+
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        table.ensureCapacity(expectedSize);
+    }
+
+    /**
+     * Reclaims the expired entries the timer wheel has reached without waiting for the next write.
+     */
+    public void cleanUp() {
+        advance(ticker.getAsLong());
+    }
+
+    /**
+     * Returns the number of entries dropped because their time-to-live had passed.
+     *
+     * @return the number of reclaimed entries since creation
+     */
+    public long getReclaimedCount() {
+        return reclaimedCount;
+    }
+
+    /**
+     * Returns an iterator over the live entries. Entries that expire while iterating may still be returned.
+     */
+    @Override
+    public Iterator<HashTable.Entry<K, V>> iterator() {
+        advance(ticker.getAsLong());
+        long now = currentTime;
+        Iterator<HashTable.Entry<K, Node<K, V>>> nodes = table.iterator();
+
+        return new Iterator<>() {
+            private Node<K, V> next = advanceToNextLive();
+
+            private Node<K, V> advanceToNextLive() {
+                while (nodes.hasNext()) {
+                    Node<K, V> node = nodes.next().getValue();
+                    if (node.expirationTime - now > 0) {
+                        return node;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public HashTable.Entry<K, V> next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Node<K, V> current = next;
+                next = advanceToNextLive();
+                return current;
+            }
+        };
+    }
+
+    /**
+     * Returns the node of the key if it has not expired yet, reclaiming it otherwise.
+     */
+    private Node<K, V> liveNode(K key, long now) {
+        Node<K, V> node = table.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (node.expirationTime - now <= 0) {
+            table.remove(key);
+            unlink(node);
+            reclaim(node);
+            return null;
+        }
+        return node;
+    }
+
+    private void reclaim(Node<K, V> node) {
+        reclaimedCount++;
+        listener.onExpiration(node.key, node.value);
+    }
+
+    /**
+     * Moves the wheel forward to the given time. On every level, the buckets whose
+     * time has passed are emptied; their due entries are reclaimed and the others
+     * are scheduled again, which places them in a finer level.
+     */
+    private void advance(long now) {
+        long previousTime = currentTime;
+        if (now - previousTime <= 0) {
+            return;
+        }
+        currentTime = now;
+
+        for (int level = 0; level < SHIFTS.length; level++) {
+            long previousTicks = previousTime >>> SHIFTS[level];
+            long delta = (now >>> SHIFTS[level]) - previousTicks;
+            if (delta <= 0) {
+                break;
+            }
+            expire(level, previousTicks, delta);
+        }
+    }
+
+    private void expire(int level, long previousTicks, long delta) {
+        Node<K, V>[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(1 + delta, buckets.length);
+        int start = (int) (previousTicks & mask);
+
+        for (int i = start; i < start + steps; i++) {
+            Node<K, V> sentinel = buckets[i & mask];
+            Node<K, V> node = sentinel.next;
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+
+            while (node != sentinel) {
+                Node<K, V> next = node.next;
+                node.prev = null;
+                node.next = null;
+
+                if (node.expirationTime - currentTime <= 0) {
+                    table.remove(node.key);
+                    reclaim(node);
+                } else {
+                    schedule(node);
+                }
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * Links the node into the coarsest bucket whose span still exceeds its remaining time.
+     */
+    private void schedule(Node<K, V> node) {
+        Node<K, V> sentinel = bucketFor(node.expirationTime);
+        node.next = sentinel;
+        node.prev = sentinel.prev;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+    }
+
+    private Node<K, V> bucketFor(long expirationTime) {
+        long remaining = expirationTime - currentTime;
+        int last = wheel.length - 1;
+        for (int level = 0; level < last; level++) {
+            if (remaining < SPANS[level + 1]) {
+                long ticks = expirationTime >>> SHIFTS[level];
+                return wheel[level][(int) (ticks & (wheel[level].length - 1))];
+            }
+        }
+        return wheel[last][0];
+    }
+
+    private void unlink(Node<K, V> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+        }
+    }
+}
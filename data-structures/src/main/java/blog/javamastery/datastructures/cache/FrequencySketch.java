@@ -0,0 +1,109 @@
+package blog.javamastery.datastructures.cache;
+
+import java.util.Arrays;
+
+/**
+ * Count-min sketch with 4-bit counters that estimates how often a key was seen,
+ * in a fixed amount of memory. Each key maps to four counters packed into longs;
+ * its estimate is the smallest of them. Once the number of increments reaches
+ * ten times the cache size, all counters are halved, so the sketch favours
+ * recent popularity over all-time popularity.
+ *
+ * @param <K> the type of keys counted by the sketch
+ */
+final class FrequencySketch<K> {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    // Clears the top bit of each counter after a right shift, halving all sixteen at once
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 30;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int size = Math.max(1, maximumSize);
+        int length = size >= MAXIMUM_TABLE_SIZE ? MAXIMUM_TABLE_SIZE : Integer.highestOneBit(size - 1) << 1;
+        this.table = new long[Math.max(1, length)];
+        this.tableMask = table.length - 1;
+        this.sampleSize = (int) Math.min(10L * size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of occurrences of the key, at most 15.
+     */
+    int frequency(K key) {
+        int hash = mix(key.hashCode());
+        int frequency = 15;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int shift = counterOffset(hash, i) << 2;
+            frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> shift) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of the key.
+     */
+    void increment(K key) {
+        int hash = mix(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), counterOffset(hash, i));
+        }
+
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    void clear() {
+        Arrays.fill(table, 0L);
+        additions = 0;
+    }
+
+    private boolean incrementAt(int index, int offset) {
+        int shift = offset << 2;
+        long mask = 0xfL << shift;
+        if ((table[index] & mask) == mask) {
+            return false;
+        }
+        table[index] += 1L << shift;
+        return true;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    /**
+     * Picks one of the sixteen counters of a long, using a different nibble of the hash per row.
+     */
+    private static int counterOffset(int hash, int i) {
+        return (hash >>> (i << 3)) & 0xf;
+    }
+
+    private static int mix(int hashCode) {
+        int h = hashCode;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
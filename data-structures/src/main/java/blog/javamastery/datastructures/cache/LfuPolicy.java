@@ -0,0 +1,145 @@
+package blog.javamastery.datastructures.cache;
+
+import blog.javamastery.datastructures.common.HashTable;
+import blog.javamastery.datastructures.hash.SimpleHashTable;
+
+/**
+ * Least-frequently-used eviction in O(1) per operation. Keys are grouped into
+ * buckets of equal access frequency, and the buckets form a list sorted by
+ * frequency. An access moves a key into the neighbouring bucket, so nothing
+ * is ever sorted or searched.
+ * <p>
+ * The cache records a new key before it asks for a victim, and a new key always
+ * has the lowest frequency, so {@code evict} passes over the key inserted last.
+ * Otherwise, once every resident had been read, each new key would evict itself.
+ */
+final class LfuPolicy<K> implements EvictionPolicy<K> {
+
+    private static final class FrequencyBucket<K> {
+        final long frequency;
+        final AccessOrderList<K> keys = new AccessOrderList<>();
+        FrequencyBucket<K> prev;
+        FrequencyBucket<K> next;
+
+        FrequencyBucket(long frequency) {
+            this.frequency = frequency;
+        }
+    }
+
+    private static final class FrequencyNode<K> extends AccessOrderList.Node<K> {
+        FrequencyBucket<K> bucket;
+
+        FrequencyNode(K key) {
+            super(key);
+        }
+    }
+
+    private final HashTable<K, FrequencyNode<K>> nodes = new SimpleHashTable<>();
+
+    // Bucket with the lowest frequency, null if no key is tracked
+    private FrequencyBucket<K> lowest;
+
+    // The key inserted last, which evict skips unless it is the only key
+    private FrequencyNode<K> newest;
+
+    LfuPolicy(int maximumSize) {
+        nodes.ensureCapacity(maximumSize + 1);
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        FrequencyNode<K> node = new FrequencyNode<>(key);
+        nodes.put(key, node);
+
+        if (lowest == null || lowest.frequency != 1) {
+            FrequencyBucket<K> bucket = new FrequencyBucket<>(1);
+            bucket.next = lowest;
+            if (lowest != null) {
+                lowest.prev = bucket;
+            }
+            lowest = bucket;
+        }
+        node.bucket = lowest;
+        lowest.keys.addFirst(node);
+        newest = node;
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        FrequencyNode<K> node = nodes.get(key);
+        if (node == null) {
+            return;
+        }
+
+        FrequencyBucket<K> current = node.bucket;
+        FrequencyBucket<K> next = current.next;
+        if (next == null || next.frequency != current.frequency + 1) {
+            next = new FrequencyBucket<>(current.frequency + 1);
+            next.prev = current;
+            next.next = current.next;
+            if (current.next != null) {
+                current.next.prev = next;
+            }
+            current.next = next;
+        }
+
+        current.keys.remove(node);
+        node.bucket = next;
+        next.keys.addFirst(node);
+        unlinkIfEmpty(current);
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        FrequencyNode<K> node = nodes.remove(key);
+        if (node != null) {
+            if (node == newest) {
+                newest = null;
+            }
+            node.bucket.keys.remove(node);
+            unlinkIfEmpty(node.bucket);
+        }
+    }
+
+    @Override
+    public K evict() {
+        FrequencyBucket<K> bucket = lowest;
+        AccessOrderList.Node<K> victim = bucket.keys.last();
+        if (victim == newest) {
+            if (bucket.keys.size() > 1) {
+                victim = victim.prev;
+            } else if (bucket.next != null) {
+                bucket = bucket.next;
+                victim = bucket.keys.last();
+            } else {
+                newest = null;
+            }
+        }
+        bucket.keys.remove(victim);
+        unlinkIfEmpty(bucket);
+        nodes.remove(victim.key);
+        return victim.key;
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        lowest = null;
+        newest = null;
+    }
+
+    private void unlinkIfEmpty(FrequencyBucket<K> bucket) {
+        if (!bucket.keys.isEmpty()) {
+            return;
+        }
+
+        if (bucket.prev == null) {
+            lowest = bucket.next;
+        } else {
+            bucket.prev.next = bucket.next;
+        }
+        if (bucket.next != null) {
+            bucket.next.prev = bucket.prev;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package blog.javamastery.datastructures.cache;
+
+import blog.javamastery.datastructures.common.HashTable;
+import blog.javamastery.datastructures.hash.SimpleHashTable;
+
+/**
+ * Least-recently-used eviction: every access moves the key to the front of a
+ * list, and the key at the back is evicted.
+ */
+final class LruPolicy<K> implements EvictionPolicy<K> {
+    private final HashTable<K, AccessOrderList.Node<K>> nodes = new SimpleHashTable<>();
+    private final AccessOrderList<K> order = new AccessOrderList<>();
+
+    LruPolicy(int maximumSize) {
+        nodes.ensureCapacity(maximumSize + 1);
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        AccessOrderList.Node<K> node = new AccessOrderList.Node<>(key);
+        nodes.put(key, node);
+        order.addFirst(node);
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        AccessOrderList.Node<K> node = nodes.get(key);
+        if (node != null) {
+            order.moveToFront(node);
+        }
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        AccessOrderList.Node<K> node = nodes.remove(key);
+        if (node != null) {
+            order.remove(node);
+        }
+    }
+
+    @Override
+    public K evict() {
+        AccessOrderList.Node<K> victim = order.last();
+        order.remove(victim);
+        nodes.remove(victim.key);
+        return victim.key;
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        order.clear();
+    }
+}
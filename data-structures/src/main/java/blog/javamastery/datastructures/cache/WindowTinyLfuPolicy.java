@@ -0,0 +1,146 @@
+package blog.javamastery.datastructures.cache;
+
+import blog.javamastery.datastructures.common.HashTable;
+import blog.javamastery.datastructures.hash.SimpleHashTable;
+
+/**
+ * W-TinyLFU eviction. New keys enter an LRU window holding 1% of the cache.
+ * Keys leaving the window compete for a place in the main region, a segmented
+ * LRU split into a probation and a protected part: the candidate from the
+ * window is only admitted if a {@link FrequencySketch} estimates it to be more
+ * popular than the probation key it would replace. Keys accessed again while on
+ * probation are promoted to the protected part, which holds 80% of the main region.
+ * <p>
+ * This keeps the hit rate of LRU on recency-biased workloads while resisting
+ * scans and one-hit wonders that would flush an LRU cache.
+ */
+final class WindowTinyLfuPolicy<K> implements EvictionPolicy<K> {
+
+    private enum Region {WINDOW, PROBATION, PROTECTED}
+
+    private static final class RegionNode<K> extends AccessOrderList.Node<K> {
+        Region region = Region.WINDOW;
+
+        RegionNode(K key) {
+            super(key);
+        }
+    }
+
+    private final HashTable<K, RegionNode<K>> nodes = new SimpleHashTable<>();
+    private final AccessOrderList<K> window = new AccessOrderList<>();
+    private final AccessOrderList<K> probation = new AccessOrderList<>();
+    private final AccessOrderList<K> protectedKeys = new AccessOrderList<>();
+    private final FrequencySketch<K> sketch;
+
+    private final int windowMaximum;
+    private final int mainMaximum;
+    private final int protectedMaximum;
+
+    WindowTinyLfuPolicy(int maximumSize) {
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.mainMaximum = Math.max(0, maximumSize - windowMaximum);
+        this.protectedMaximum = (int) (mainMaximum * 0.8);
+        this.sketch = new FrequencySketch<>(maximumSize);
+        nodes.ensureCapacity(maximumSize + 1);
+    }
+
+    @Override
+    public void recordInsertion(K key) {
+        sketch.increment(key);
+        RegionNode<K> node = new RegionNode<>(key);
+        nodes.put(key, node);
+        window.addFirst(node);
+
+        // While the main region has room, keys leaving the window move there unchallenged
+        while (window.size() > windowMaximum && mainSize() < mainMaximum) {
+            RegionNode<K> overflow = (RegionNode<K>) window.last();
+            window.remove(overflow);
+            overflow.region = Region.PROBATION;
+            probation.addFirst(overflow);
+        }
+    }
+
+    @Override
+    public void recordAccess(K key) {
+        RegionNode<K> node = nodes.get(key);
+        if (node == null) {
+            return;
+        }
+        sketch.increment(key);
+
+        switch (node.region) {
+            case WINDOW -> window.moveToFront(node);
+            case PROTECTED -> protectedKeys.moveToFront(node);
+            case PROBATION -> {
+                probation.remove(node);
+                node.region = Region.PROTECTED;
+                protectedKeys.addFirst(node);
+
+                // Demote the least recently used protected key to keep the protected part bounded
+                if (protectedKeys.size() > protectedMaximum) {
+                    RegionNode<K> demoted = (RegionNode<K>) protectedKeys.last();
+                    protectedKeys.remove(demoted);
+                    demoted.region = Region.PROBATION;
+                    probation.addFirst(demoted);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void recordRemoval(K key) {
+        RegionNode<K> node = nodes.remove(key);
+        if (node != null) {
+            listOf(node).remove(node);
+        }
+    }
+
+    @Override
+    public K evict() {
+        RegionNode<K> victim = mainVictim();
+        if (window.size() > windowMaximum) {
+            RegionNode<K> candidate = (RegionNode<K>) window.last();
+            if (victim == null || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                victim = candidate;
+            } else {
+                window.remove(candidate);
+                candidate.region = Region.PROBATION;
+                probation.addFirst(candidate);
+            }
+        } else if (victim == null) {
+            victim = (RegionNode<K>) window.last();
+        }
+
+        listOf(victim).remove(victim);
+        nodes.remove(victim.key);
+        return victim.key;
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        window.clear();
+        probation.clear();
+        protectedKeys.clear();
+        sketch.clear();
+    }
+
+    private int mainSize() {
+        return probation.size() + protectedKeys.size();
+    }
+
+    private RegionNode<K> mainVictim() {
+        if (!probation.isEmpty()) {
+            return (RegionNode<K>) probation.last();
+        }
+        return (RegionNode<K>) protectedKeys.last();
+    }
+
+    private AccessOrderList<K> listOf(RegionNode<K> node) {
+        return switch (node.region) {
+            case WINDOW -> window;
+            case PROBATION -> probation;
+            case PROTECTED -> protectedKeys;
+        };
+    }
+}
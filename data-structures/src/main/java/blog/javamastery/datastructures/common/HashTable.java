@@ -1,12 +1,19 @@
 package blog.javamastery.datastructures.common;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * A generic hash table implementation that handles collisions through chaining.
  *
  * @param <K> the type of keys maintained by this hash table
  * @param <V> the type of mapped values
  */
-public interface HashTable<K, V> extends Iterable<HashTable.Entry<K, V>> {
+public interface HashTable<K, V> extends Iterable<HashTable.Entry<K, V>>, Streamable<HashTable.Entry<K, V>> {
 
     /**
      * Associates the specified value with the specified key.
@@ -73,6 +80,63 @@ public interface HashTable<K, V> extends Iterable<HashTable.Entry<K, V>> {
      */
     double getLoadFactor();
 
+    /**
+     * Prepares the hash table to hold the given number of mappings without
+     * further resizing. Implementations that cannot pre-size ignore the call.
+     *
+     * @param expectedSize the number of mappings the table should accommodate
+     */
+    default void ensureCapacity(int expectedSize) {
+    }
+
+    /**
+     * Copies all mappings of the given hash table into this one, sizing this
+     * table for the combined number of entries first.
+     *
+     * @param other the hash table whose mappings are to be copied
+     */
+    default void putAll(HashTable<? extends K, ? extends V> other) {
+        ensureCapacity(size() + other.size());
+        for (Entry<? extends K, ? extends V> entry : other) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Removes all mappings that satisfy the given predicate.
+     *
+     * @param filter the predicate selecting the entries to remove
+     * @return true if any mapping was removed
+     */
+    default boolean removeIf(Predicate<? super Entry<K, V>> filter) {
+        List<K> keysToRemove = new ArrayList<>();
+        for (Entry<K, V> entry : this) {
+            if (filter.test(entry)) {
+                keysToRemove.add(entry.getKey());
+            }
+        }
+        for (K key : keysToRemove) {
+            remove(key);
+        }
+        return !keysToRemove.isEmpty();
+    }
+
+    /**
+     * Performs the given action for each mapping, in no particular order.
+     *
+     * @param action the action to perform on each key and value
+     */
+    default void forEach(BiConsumer<? super K, ? super V> action) {
+        for (Entry<K, V> entry : this) {
+            action.accept(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    default Stream<Entry<K, V>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
     /**
      * Represents a key-value entry in the hash table.
      */
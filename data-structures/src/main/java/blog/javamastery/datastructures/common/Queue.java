@@ -0,0 +1,45 @@
+package blog.javamastery.datastructures.common;
+
+/**
+ * A first-in, first-out queue of non-null elements.
+ *
+ * @param <T> the type of elements held in this queue
+ */
+public interface Queue<T> extends Iterable<T>, Streamable<T> {
+
+    /**
+     * Adds the element at the tail of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalArgumentException if the element is null
+     */
+    void enqueue(T element);
+
+    /**
+     * Removes and returns the element at the head of the queue.
+     *
+     * @return the head of the queue, or null if the queue is empty
+     */
+    T dequeue();
+
+    /**
+     * Returns the element at the head of the queue without removing it.
+     *
+     * @return the head of the queue, or null if the queue is empty
+     */
+    T peek();
+
+    /**
+     * Returns true if this queue contains no elements.
+     *
+     * @return true if the queue is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the number of elements in this queue.
+     *
+     * @return the number of elements
+     */
+    int size();
+}
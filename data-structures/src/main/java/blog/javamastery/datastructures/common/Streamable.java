@@ -4,4 +4,14 @@ import java.util.stream.Stream;
 
 public interface Streamable<T> {
     Stream<T> stream();
+
+    /**
+     * Returns a possibly parallel stream over the elements. How well it splits
+     * depends on the spliterator behind {@link #stream()}.
+     *
+     * @return a parallel stream of the elements
+     */
+    default Stream<T> parallelStream() {
+        return stream().parallel();
+    }
 }
@@ -0,0 +1,398 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe hash table that uses lock striping.
+ * <p>
+ * The key space is split into segments, each guarding its own chained bucket array with
+ * its own lock, so writers that hit different segments proceed in parallel and a segment
+ * resizes without stopping the others. Reads never lock: buckets are published through
+ * volatile array slots and chains are immutable apart from their values, so a reader
+ * always sees a consistent chain even while a writer replaces it.
+ * <p>
+ * {@link #size()}, {@link #getLoadFactor()} and iteration are weakly consistent: they
+ * reflect the state of each segment at some point during the call.
+ *
+ * @param <K> the type of keys maintained by this hash table
+ * @param <V> the type of mapped values
+ */
+public class ConcurrentHashTable<K, V> implements HashTable<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAXIMUM_SEGMENTS = 1 << 16;
+    private static final int MINIMUM_SEGMENT_CAPACITY = 2;
+
+    private final Segment<K, V>[] segments;
+
+    // The high hash bits select the segment, the low bits select the bucket
+    private final int segmentShift;
+    private final int segmentMask;
+
+    /**
+     * Chain node. Everything but the value is final, so a chain can only change
+     * by publishing a new head.
+     */
+    private static final class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        final Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * An independently locked and resized part of the table.
+     */
+    private static final class Segment<K, V> extends ReentrantLock {
+        volatile AtomicReferenceArray<Node<K, V>> table;
+
+        // Written under the lock, read without it
+        volatile int count;
+
+        // Count at which the bucket array is doubled
+        int threshold;
+
+        Segment(int capacity) {
+            setTable(new AtomicReferenceArray<>(capacity));
+        }
+
+        void setTable(AtomicReferenceArray<Node<K, V>> newTable) {
+            threshold = (int) (newTable.length() * DEFAULT_LOAD_FACTOR);
+            table = newTable;
+        }
+
+        V get(Object key, int hash) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            for (Node<K, V> e = tab.get(hash & (tab.length() - 1)); e != null; e = e.next) {
+                if (e.hash == hash && key.equals(e.key)) {
+                    return e.value;
+                }
+            }
+            return null;
+        }
+
+        boolean containsKey(Object key, int hash) {
+            AtomicReferenceArray<Node<K, V>> tab = table;
+            for (Node<K, V> e = tab.get(hash & (tab.length() - 1)); e != null; e = e.next) {
+                if (e.hash == hash && key.equals(e.key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        V put(K key, int hash, V value) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node<K, V> first = tab.get(index);
+
+                // If key exists, update value
+                for (Node<K, V> e = first; e != null; e = e.next) {
+                    if (e.hash == hash && key.equals(e.key)) {
+                        V oldValue = e.value;
+                        e.value = value;
+                        return oldValue;
+                    }
+                }
+
+                if (count + 1 > threshold && tab.length() < Hashing.MAXIMUM_CAPACITY) {
+                    rehash();
+                    tab = table;
+                    index = hash & (tab.length() - 1);
+                    first = tab.get(index);
+                }
+
+                tab.set(index, new Node<>(hash, key, value, first));
+                count = count + 1;
+                return null;
+            } finally {
+                unlock();
+            }
+        }
+
+        V remove(Object key, int hash) {
+            lock();
+            try {
+                AtomicReferenceArray<Node<K, V>> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node<K, V> first = tab.get(index);
+
+                Node<K, V> target = first;
+                while (target != null && (target.hash != hash || !key.equals(target.key))) {
+                    target = target.next;
+                }
+                if (target == null) {
+                    return null;
+                }
+
+                // Nodes after the removed one are shared, the ones before it are copied
+                Node<K, V> newFirst = target.next;
+                for (Node<K, V> e = first; e != target; e = e.next) {
+                    newFirst = new Node<>(e.hash, e.key, e.value, newFirst);
+                }
+                tab.set(index, newFirst);
+                count = count - 1;
+                return target.value;
+            } finally {
+                unlock();
+            }
+        }
+
+        void clear() {
+            lock();
+            try {
+                setTable(new AtomicReferenceArray<>(table.length()));
+                count = 0;
+            } finally {
+                unlock();
+            }
+        }
+
+        /**
+         * Doubles the bucket array. Called with the lock held; readers keep using
+         * the old array, which is left untouched, until the new one is published.
+         */
+        private void rehash() {
+            AtomicReferenceArray<Node<K, V>> oldTable = table;
+            int newCapacity = oldTable.length() * 2;
+            AtomicReferenceArray<Node<K, V>> newTable = new AtomicReferenceArray<>(newCapacity);
+            int mask = newCapacity - 1;
+
+            for (int i = 0; i < oldTable.length(); i++) {
+                Node<K, V> head = oldTable.get(i);
+                if (head == null) {
+                    continue;
+                }
+
+                // The trailing run of nodes that land in the same bucket can be reused as is
+                Node<K, V> lastRun = head;
+                int lastRunIndex = head.hash & mask;
+                for (Node<K, V> e = head.next; e != null; e = e.next) {
+                    int index = e.hash & mask;
+                    if (index != lastRunIndex) {
+                        lastRunIndex = index;
+                        lastRun = e;
+                    }
+                }
+                newTable.set(lastRunIndex, lastRun);
+
+                // Clone the nodes in front of it
+                for (Node<K, V> e = head; e != lastRun; e = e.next) {
+                    int index = e.hash & mask;
+                    newTable.set(index, new Node<>(e.hash, e.key, e.value, newTable.get(index)));
+                }
+            }
+
+            setTable(newTable);
+        }
+    }
+
+    public ConcurrentHashTable() {
+        this(DEFAULT_CAPACITY, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Creates a table.
+     *
+     * @param initialCapacity  the number of entries the table should hold before resizing
+     * @param concurrencyLevel the estimated number of concurrently writing threads,
+     *                         used to size the number of segments
+     * @throws IllegalArgumentException if initialCapacity is negative or concurrencyLevel is not positive
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentHashTable(int initialCapacity, int concurrencyLevel) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be negative");
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive");
+        }
+
+        int segmentCount = Hashing.tableSizeFor(Math.min(concurrencyLevel, MAXIMUM_SEGMENTS));
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        this.segmentMask = segmentCount - 1;
+
+        int perSegment = (int) Math.ceil(initialCapacity / DEFAULT_LOAD_FACTOR / segmentCount);
+        int segmentCapacity = Math.max(MINIMUM_SEGMENT_CAPACITY, Hashing.tableSizeFor(perSegment));
+
+        this.segments = (Segment<K, V>[]) new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    private static int hash(Object key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        return Hashing.mix(key.hashCode());
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        // With a single segment the shift is 32, which Java treats as 0; the mask makes that harmless
+        return segments[(hash >>> segmentShift) & segmentMask];
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int hash = hash(key);
+        return segmentFor(hash).put(key, hash, value);
+    }
+
+    @Override
+    public V get(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).get(key, hash);
+    }
+
+    @Override
+    public V remove(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).remove(key, hash);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).containsKey(key, hash);
+    }
+
+    @Override
+    public int size() {
+        long sum = 0;
+        for (Segment<K, V> segment : segments) {
+            sum += segment.count;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment<K, V> segment : segments) {
+            if (segment.count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all mappings, one segment at a time. Writes that race with
+     * this call may survive it.
+     */
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public double getLoadFactor() {
+        long entries = 0;
+        long buckets = 0;
+        for (Segment<K, V> segment : segments) {
+            entries += segment.count;
+            buckets += segment.table.length();
+        }
+        return (double) entries / buckets;
+    }
+
+    /**
+     * Returns a weakly consistent iterator. It never throws on concurrent modification,
+     * returns every entry that was present for the whole iteration exactly once, and may
+     * or may not reflect changes made after it was created. {@code setValue} on the
+     * returned entries writes through to the table.
+     */
+    @Override
+    public Iterator<HashTable.Entry<K, V>> iterator() {
+        return new Iterator<>() {
+            private int segmentIndex = 0;
+            private AtomicReferenceArray<Node<K, V>> currentTable = null;
+            private int bucketIndex = 0;
+            private Node<K, V> nextNode = null;
+
+            private void advance() {
+                if (nextNode != null) {
+                    nextNode = nextNode.next;
+                }
+                while (nextNode == null) {
+                    if (currentTable != null && bucketIndex < currentTable.length()) {
+                        nextNode = currentTable.get(bucketIndex++);
+                    } else if (segmentIndex < segments.length) {
+                        currentTable = segments[segmentIndex++].table;
+                        bucketIndex = 0;
+                    } else {
+                        return;
+                    }
+                }
+            }
+
+            {
+                advance();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public HashTable.Entry<K, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                var entry = new WriteThroughEntry(nextNode.key, nextNode.value);
+                advance();
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * Entry handed out by the iterator; updates go through {@link #put}.
+     */
+    private class WriteThroughEntry implements HashTable.Entry<K, V> {
+        private final K key;
+        private V value;
+
+        WriteThroughEntry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = this.value;
+            this.value = value;
+            put(key, value);
+            return oldValue;
+        }
+    }
+}
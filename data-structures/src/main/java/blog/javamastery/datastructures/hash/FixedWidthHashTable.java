@@ -0,0 +1,495 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Base class of the hash tables that keep their entries as fixed-width slots in
+ * {@link ByteBuffer} pages rather than as Java objects.
+ * <p>
+ * A slot holds the key hash followed by the serialized key and value. A hash of
+ * {@code 0} marks an empty slot. Collisions are resolved with linear probing and
+ * backward-shift deletion. Keys are hashed and compared in their serialized form,
+ * so lookups never deserialize stored keys, and resizing copies raw slot bytes.
+ * Subclasses decide where the pages live.
+ *
+ * @param <K> the type of keys maintained by this hash table
+ * @param <V> the type of mapped values
+ */
+abstract class FixedWidthHashTable<K, V> implements HashTable<K, V>, AutoCloseable {
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final double LOAD_FACTOR = 0.75;
+    static final int MINIMUM_CAPACITY = 16;
+
+    private static final int EMPTY = 0;
+    private static final int HASH_BYTES = Integer.BYTES;
+
+    // Pages never exceed 1 GiB, which keeps every offset within an int
+    private static final int MAXIMUM_PAGE_BYTES = 1 << 30;
+
+    final FixedWidthSerializer<K> keySerializer;
+    final FixedWidthSerializer<V> valueSerializer;
+    final int slotSize;
+
+    // Serialized form of the key of the current operation
+    private final ByteBuffer keyBuffer;
+
+    ByteBuffer[] pages;
+    int capacity;
+    int size;
+
+    private int pageShift;
+    private int pageMask;
+    private int threshold;
+    private boolean closed;
+
+    FixedWidthHashTable(FixedWidthSerializer<K> keySerializer, FixedWidthSerializer<V> valueSerializer) {
+        if (keySerializer == null || valueSerializer == null) {
+            throw new IllegalArgumentException("Serializers cannot be null");
+        }
+        if (keySerializer.width() <= 0) {
+            throw new IllegalArgumentException("Key width must be positive");
+        }
+        if (valueSerializer.width() < 0) {
+            throw new IllegalArgumentException("Value width cannot be negative");
+        }
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+        this.slotSize = HASH_BYTES + keySerializer.width() + valueSerializer.width();
+        this.keyBuffer = ByteBuffer.allocate(keySerializer.width()).order(BYTE_ORDER);
+    }
+
+    /**
+     * Allocates zero-filled pages holding {@code capacity} slots, in pages of {@code slotsPerPage} slots.
+     */
+    abstract ByteBuffer[] allocatePages(int capacity, int slotsPerPage);
+
+    /**
+     * Releases pages that are no longer in use, either because a resize replaced
+     * them (the new pages are already attached) or because the table is being closed.
+     */
+    abstract void releasePages(ByteBuffer[] pages);
+
+    /**
+     * Called before the contents of the table are modified.
+     */
+    void beforeWrite() {
+    }
+
+    /**
+     * Returns the number of slots per page for a table of the given capacity.
+     */
+    int slotsPerPage(int capacity) {
+        int maximumSlots = Integer.highestOneBit(MAXIMUM_PAGE_BYTES / slotSize);
+        return Math.min(capacity, maximumSlots);
+    }
+
+    /**
+     * Returns the capacity needed to hold the given number of entries without resizing.
+     */
+    static int capacityFor(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        int capacity = Hashing.tableSizeFor((int) Math.ceil((expectedSize + 1) / LOAD_FACTOR));
+        return Math.max(MINIMUM_CAPACITY, capacity);
+    }
+
+    /**
+     * Installs pages of the given capacity, which must be a power of two.
+     */
+    void attach(ByteBuffer[] newPages, int newCapacity) {
+        for (ByteBuffer page : newPages) {
+            page.order(BYTE_ORDER);
+        }
+        int slotsPerPage = slotsPerPage(newCapacity);
+        this.pages = newPages;
+        this.capacity = newCapacity;
+        this.pageShift = Integer.numberOfTrailingZeros(slotsPerPage);
+        this.pageMask = slotsPerPage - 1;
+        this.threshold = (int) Math.min(newCapacity - 1, (long) (newCapacity * LOAD_FACTOR));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        int hash = prepareKey(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        beforeWrite();
+
+        int mask = capacity - 1;
+        int slot = hash & mask;
+        int slotHash;
+        while ((slotHash = hashAt(slot)) != EMPTY) {
+            // If key exists, update value
+            if (slotHash == hash && keyMatches(slot)) {
+                V oldValue = readValue(slot);
+                valueSerializer.write(page(slot), valueOffset(slot), value);
+                return oldValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        ByteBuffer page = page(slot);
+        int offset = offset(slot);
+        page.put(offset + HASH_BYTES, keyBuffer, 0, keyBuffer.capacity());
+        valueSerializer.write(page, valueOffset(slot), value);
+        // The hash goes in last; it is what marks the slot as occupied
+        page.putInt(offset, hash);
+        size++;
+
+        if (size > threshold) {
+            resize();
+        }
+        return null;
+    }
+
+    @Override
+    public V get(K key) {
+        int slot = find(prepareKey(key));
+        return slot >= 0 ? readValue(slot) : null;
+    }
+
+    @Override
+    public V remove(K key) {
+        int slot = find(prepareKey(key));
+        if (slot < 0) {
+            return null;
+        }
+        beforeWrite();
+
+        V oldValue = readValue(slot);
+        shiftSlots(slot);
+        size--;
+        return oldValue;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return find(prepareKey(key)) >= 0;
+    }
+
+    @Override
+    public int size() {
+        ensureOpen();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        ensureOpen();
+        beforeWrite();
+        for (int slot = 0; slot < capacity; slot++) {
+            page(slot).putInt(offset(slot), EMPTY);
+        }
+        size = 0;
+    }
+
+    @Override
+    public double getLoadFactor() {
+        ensureOpen();
+        return (double) size / capacity;
+    }
+
+    /**
+     * Returns the number of slots currently allocated.
+     *
+     * @return the capacity of the table
+     */
+    public int capacity() {
+        ensureOpen();
+        return capacity;
+    }
+
+    /**
+     * Returns the number of bytes the slots of this table occupy outside the Java heap.
+     *
+     * @return the size of the slot storage in bytes
+     */
+    public long nativeMemoryBytes() {
+        ensureOpen();
+        return (long) capacity * slotSize;
+    }
+
+    /**
+     * Returns true once the table has been closed.
+     *
+     * @return true if {@link #close()} has been called
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Releases the slot storage. Every further operation throws {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        releasePages(pages);
+        pages = null;
+        size = 0;
+    }
+
+    void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Hash table is closed");
+        }
+    }
+
+    /**
+     * Serializes the key into the key buffer and returns its hash.
+     */
+    private int prepareKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        ensureOpen();
+
+        keySerializer.write(keyBuffer, 0, key);
+        return hashKeyBuffer();
+    }
+
+    private int hashKeyBuffer() {
+        int width = keyBuffer.capacity();
+        long h = 0x9E3779B97F4A7C15L ^ width;
+        int i = 0;
+        for (; i + Long.BYTES <= width; i += Long.BYTES) {
+            h = (h ^ keyBuffer.getLong(i)) * 0x100000001B3L;
+            h ^= h >>> 29;
+        }
+        for (; i < width; i++) {
+            h = (h ^ keyBuffer.get(i)) * 0x100000001B3L;
+        }
+
+        int hash = Hashing.mix(h);
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    private boolean keyMatches(int slot) {
+        ByteBuffer page = page(slot);
+        int offset = offset(slot) + HASH_BYTES;
+        int width = keyBuffer.capacity();
+        int i = 0;
+        for (; i + Long.BYTES <= width; i += Long.BYTES) {
+            if (page.getLong(offset + i) != keyBuffer.getLong(i)) {
+                return false;
+            }
+        }
+        for (; i < width; i++) {
+            if (page.get(offset + i) != keyBuffer.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int find(int hash) {
+        int mask = capacity - 1;
+        int slot = hash & mask;
+        int slotHash;
+        while ((slotHash = hashAt(slot)) != EMPTY) {
+            if (slotHash == hash && keyMatches(slot)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Closes the gap left by a removed slot by moving back every following slot
+     * whose probe sequence passes through it.
+     */
+    private void shiftSlots(int gap) {
+        int mask = capacity - 1;
+        int next = gap;
+        while (true) {
+            next = (next + 1) & mask;
+            int hash = hashAt(next);
+            if (hash == EMPTY) {
+                page(gap).putInt(offset(gap), EMPTY);
+                return;
+            }
+
+            int home = hash & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                page(gap).put(offset(gap), page(next), offset(next), slotSize);
+                gap = next;
+            }
+        }
+    }
+
+    private void resize() {
+        if (capacity == Hashing.MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Hash table is full");
+        }
+        rehash(capacity * 2, false);
+    }
+
+    /**
+     * Rebuilds the table in place from whatever its slots contain, dropping slots whose
+     * key already appeared in an earlier one and recounting the size. Used to repair a
+     * table whose probe sequences may have been left inconsistent, e.g. by a crash.
+     */
+    void rebuild() {
+        ensureOpen();
+        rehash(capacity, true);
+    }
+
+    /**
+     * Moves every occupied slot into freshly allocated pages of the given capacity.
+     * Slots carry their hash, so entries move as raw bytes.
+     */
+    private void rehash(int newCapacity, boolean deduplicate) {
+        ByteBuffer[] oldPages = pages;
+        int oldCapacity = capacity;
+        int oldPageShift = pageShift;
+        int oldPageMask = pageMask;
+
+        attach(allocatePages(newCapacity, slotsPerPage(newCapacity)), newCapacity);
+
+        int mask = capacity - 1;
+        int count = 0;
+        for (int oldSlot = 0; oldSlot < oldCapacity; oldSlot++) {
+            ByteBuffer oldPage = oldPages[oldSlot >>> oldPageShift];
+            int oldOffset = (oldSlot & oldPageMask) * slotSize;
+            int hash = oldPage.getInt(oldOffset);
+            if (hash == EMPTY) {
+                continue;
+            }
+
+            int slot = hash & mask;
+            boolean duplicate = false;
+            int slotHash;
+            while ((slotHash = hashAt(slot)) != EMPTY) {
+                if (deduplicate && slotHash == hash && keysEqual(page(slot), offset(slot), oldPage, oldOffset)) {
+                    duplicate = true;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (!duplicate) {
+                page(slot).put(offset(slot), oldPage, oldOffset, slotSize);
+                count++;
+            }
+        }
+
+        size = count;
+        releasePages(oldPages);
+    }
+
+    private boolean keysEqual(ByteBuffer page, int offset, ByteBuffer otherPage, int otherOffset) {
+        int width = keySerializer.width();
+        for (int i = HASH_BYTES; i < HASH_BYTES + width; i++) {
+            if (page.get(offset + i) != otherPage.get(otherOffset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hashAt(int slot) {
+        return page(slot).getInt(offset(slot));
+    }
+
+    private V readValue(int slot) {
+        return valueSerializer.read(page(slot), valueOffset(slot));
+    }
+
+    private ByteBuffer page(int slot) {
+        return pages[slot >>> pageShift];
+    }
+
+    private int offset(int slot) {
+        return (slot & pageMask) * slotSize;
+    }
+
+    private int valueOffset(int slot) {
+        return offset(slot) + HASH_BYTES + keySerializer.width();
+    }
+
+    @Override
+    public Iterator<HashTable.Entry<K, V>> iterator() {
+        ensureOpen();
+        return new Iterator<>() {
+            private int slot = nextOccupied(0);
+
+            private int nextOccupied(int from) {
+                while (from < capacity && hashAt(from) == EMPTY) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                ensureOpen();
+                return slot < capacity;
+            }
+
+            @Override
+            public HashTable.Entry<K, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                var entry = new SlotEntry(slot);
+                slot = nextOccupied(slot + 1);
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * A deserialized copy of a slot; setValue writes through to the slot.
+     */
+    private class SlotEntry implements HashTable.Entry<K, V> {
+        private final int slot;
+        private final K key;
+        private V value;
+
+        SlotEntry(int slot) {
+            this.slot = slot;
+            this.key = keySerializer.read(page(slot), offset(slot) + HASH_BYTES);
+            this.value = readValue(slot);
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Value cannot be null");
+            }
+            ensureOpen();
+            beforeWrite();
+
+            V oldValue = this.value;
+            valueSerializer.write(page(slot), valueOffset(slot), value);
+            this.value = value;
+            return oldValue;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package blog.javamastery.datastructures.hash;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts values to and from a fixed number of bytes, so they can be stored in the
+ * slots of a buffer-backed hash table.
+ * <p>
+ * Implementations must only use absolute {@link ByteBuffer} accessors and must be
+ * canonical: equal values have to produce identical bytes, because keys are
+ * compared and hashed in their serialized form.
+ *
+ * @param <T> the type of values handled by this serializer
+ */
+public interface FixedWidthSerializer<T> {
+
+    /**
+     * Returns the number of bytes every serialized value occupies.
+     *
+     * @return the width in bytes
+     */
+    int width();
+
+    /**
+     * Writes the value at the given offset.
+     *
+     * @param buffer the buffer to write to
+     * @param offset the absolute offset of the first byte
+     * @param value  the value to write, never null
+     */
+    void write(ByteBuffer buffer, int offset, T value);
+
+    /**
+     * Reads the value stored at the given offset.
+     *
+     * @param buffer the buffer to read from
+     * @param offset the absolute offset of the first byte
+     * @return the value
+     */
+    T read(ByteBuffer buffer, int offset);
+
+    FixedWidthSerializer<Integer> INTEGER = new FixedWidthSerializer<>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    FixedWidthSerializer<Long> LONG = new FixedWidthSerializer<>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    FixedWidthSerializer<Double> DOUBLE = new FixedWidthSerializer<>() {
+        @Override
+        public int width() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            // Canonical NaN, so all NaNs compare equal as keys
+            buffer.putLong(offset, Double.doubleToLongBits(value));
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return Double.longBitsToDouble(buffer.getLong(offset));
+        }
+    };
+
+    /**
+     * Returns a serializer for strings of at most {@code maxBytes} UTF-8 bytes.
+     * Each value takes a two-byte length prefix plus {@code maxBytes} zero-padded bytes.
+     *
+     * @param maxBytes the maximum encoded length of a string
+     * @return the serializer
+     * @throws IllegalArgumentException if maxBytes is not between 1 and 65535
+     */
+    static FixedWidthSerializer<String> utf8(int maxBytes) {
+        if (maxBytes <= 0 || maxBytes > 0xFFFF) {
+            throw new IllegalArgumentException("Maximum length must be between 1 and 65535 bytes");
+        }
+
+        return new FixedWidthSerializer<>() {
+            @Override
+            public int width() {
+                return Short.BYTES + maxBytes;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, String value) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                if (bytes.length > maxBytes) {
+                    throw new IllegalArgumentException(
+                            String.format("String needs %d bytes, at most %d allowed", bytes.length, maxBytes));
+                }
+                buffer.putShort(offset, (short) bytes.length);
+                buffer.put(offset + Short.BYTES, bytes);
+                // Zero the padding so equal strings always produce identical bytes
+                for (int i = bytes.length; i < maxBytes; i++) {
+                    buffer.put(offset + Short.BYTES + i, (byte) 0);
+                }
+            }
+
+            @Override
+            public String read(ByteBuffer buffer, int offset) {
+                byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort(offset))];
+                buffer.get(offset + Short.BYTES, bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
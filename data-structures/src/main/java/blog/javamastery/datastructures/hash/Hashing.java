@@ -0,0 +1,60 @@
+package blog.javamastery.datastructures.hash;
+
+/**
+ * Hash helpers shared by the hash table implementations of this package.
+ */
+final class Hashing {
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private Hashing() {
+    }
+
+    /**
+     * Spreads the higher bits of a hash code downwards, so tables that
+     * index with a power-of-two mask still see them.
+     */
+    static int spread(int hashCode) {
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    /**
+     * Scrambles all bits of a hash code (the MurmurHash3 finalizer), so both
+     * its low and its high bits can be used to pick a bucket.
+     */
+    static int mix(int hashCode) {
+        int h = hashCode;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Scrambles all bits of a 64-bit key (the MurmurHash3 64-bit finalizer)
+     * and folds the result into an int.
+     */
+    static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Returns the smallest power of two that is greater than or equal to the given capacity.
+     */
+    static int tableSizeFor(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        if (capacity >= MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+        return capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
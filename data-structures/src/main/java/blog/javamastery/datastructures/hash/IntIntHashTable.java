@@ -0,0 +1,284 @@
+package blog.javamastery.datastructures.hash;
+
+/**
+ * A hash table mapping primitive {@code int} keys to primitive {@code int} values.
+ * <p>
+ * Keys and values are stored in flat parallel arrays and collisions are resolved with linear
+ * probing, so no operation boxes or allocates. Keys are scrambled with a MurmurHash3 finalizer
+ * before masking, which keeps sequential ids from clustering. The key {@code 0} marks empty
+ * slots and is therefore stored in a dedicated field.
+ * <p>
+ * As a missing value cannot be {@code null}, lookups of absent keys return the table's
+ * <em>no-entry value</em> ({@code 0} unless configured otherwise); use
+ * {@link #containsKey(int)} or {@link #getOrDefault(int, int)} where that is ambiguous.
+ */
+public class IntIntHashTable {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+
+    // Marks an empty slot in the key array
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private int[] values;
+
+    // The free key cannot live in the arrays
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+
+    // Number of key-value mappings, including the free key
+    private int size;
+
+    // Number of occupied slots at which the arrays are doubled
+    private int threshold;
+
+    // Returned for keys without a mapping
+    private final int noEntryValue;
+
+    /**
+     * Receives the entries of the table one at a time.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(int key, int value);
+    }
+
+    public IntIntHashTable() {
+        this.noEntryValue = 0;
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table sized to hold the given number of entries without resizing.
+     *
+     * @param expectedSize the number of entries the table should accommodate
+     * @param noEntryValue the value returned for keys without a mapping
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntIntHashTable(int expectedSize, int noEntryValue) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        this.noEntryValue = noEntryValue;
+        allocate(Math.max(2, Hashing.tableSizeFor((int) Math.ceil((expectedSize + 1) / LOAD_FACTOR))));
+    }
+
+    /**
+     * Associates the specified value with the specified key.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @return the previous value associated with the key, or the no-entry value if there was no mapping
+     */
+    public int put(int key, int value) {
+        if (key == FREE_KEY) {
+            int oldValue = hasFreeKey ? freeKeyValue : noEntryValue;
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return oldValue;
+        }
+
+        int mask = keys.length - 1;
+        int index = Hashing.mix(key) & mask;
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                int oldValue = values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        if (occupiedSlots() > threshold) {
+            resize();
+        }
+        return noEntryValue;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the mapped value, or the no-entry value if no mapping
+     */
+    public int get(int key) {
+        return getOrDefault(key, noEntryValue);
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or the given default.
+     *
+     * @param key          the key whose associated value is to be returned
+     * @param defaultValue the value to return if there is no mapping
+     * @return the mapped value, or defaultValue if no mapping
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    /**
+     * Removes the mapping for the specified key if present.
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value associated with key, or the no-entry value if no mapping
+     */
+    public int remove(int key) {
+        if (key == FREE_KEY) {
+            if (!hasFreeKey) {
+                return noEntryValue;
+            }
+            hasFreeKey = false;
+            size--;
+            return freeKeyValue;
+        }
+
+        int index = indexOf(key);
+        if (index < 0) {
+            return noEntryValue;
+        }
+
+        int oldValue = values[index];
+        shiftKeys(index);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Returns true if this hash table contains a mapping for the specified key.
+     *
+     * @param key the key whose presence is to be tested
+     * @return true if there is a mapping for the key
+     */
+    public boolean containsKey(int key) {
+        return key == FREE_KEY ? hasFreeKey : indexOf(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        allocate(keys.length);
+        hasFreeKey = false;
+        size = 0;
+    }
+
+    /**
+     * Returns the current load factor of this hash table.
+     *
+     * @return the load factor (number of entries / table size)
+     */
+    public double getLoadFactor() {
+        return (double) size / keys.length;
+    }
+
+    /**
+     * Returns the value reported for keys without a mapping.
+     *
+     * @return the no-entry value
+     */
+    public int getNoEntryValue() {
+        return noEntryValue;
+    }
+
+    /**
+     * Passes every entry to the given consumer, in no particular order.
+     *
+     * @param consumer the action to perform on each entry
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (hasFreeKey) {
+            consumer.accept(FREE_KEY, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int occupiedSlots() {
+        return hasFreeKey ? size - 1 : size;
+    }
+
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = Hashing.mix(key) & mask;
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Closes the gap left by a removed slot by moving back every following key
+     * whose probe sequence passes through it.
+     */
+    private void shiftKeys(int gap) {
+        int mask = keys.length - 1;
+        int next = gap;
+        while (true) {
+            next = (next + 1) & mask;
+            int key = keys[next];
+            if (key == FREE_KEY) {
+                keys[gap] = FREE_KEY;
+                values[gap] = 0;
+                return;
+            }
+
+            int home = Hashing.mix(key) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+    }
+
+    private void resize() {
+        if (keys.length == Hashing.MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Hash table is full");
+        }
+
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = Hashing.mix(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        threshold = (int) Math.min(capacity - 1, (long) (capacity * LOAD_FACTOR));
+    }
+}
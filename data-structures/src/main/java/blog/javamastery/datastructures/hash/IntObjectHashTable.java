@@ -0,0 +1,266 @@
+package blog.javamastery.datastructures.hash;
+
+/**
+ * A hash table with primitive {@code int} keys that never boxes them.
+ * <p>
+ * Keys and values are stored in flat parallel arrays and collisions are resolved with linear
+ * probing, so {@code get}, {@code put} and {@code remove} do not allocate. Keys are scrambled
+ * with a MurmurHash3 finalizer before masking, which keeps sequential ids from clustering.
+ * The key {@code 0} marks empty slots and is therefore stored in a dedicated field.
+ * It offers the operations of {@link blog.javamastery.datastructures.common.HashTable}
+ * minus the boxing; entries are visited with {@link #forEach(EntryConsumer)}.
+ *
+ * @param <V> the type of mapped values
+ */
+public class IntObjectHashTable<V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+
+    // Marks an empty slot in the key array
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private Object[] values;
+
+    // The free key cannot live in the arrays
+    private boolean hasFreeKey;
+    private V freeKeyValue;
+
+    // Number of key-value mappings, including the free key
+    private int size;
+
+    // Number of occupied slots at which the arrays are doubled
+    private int threshold;
+
+    /**
+     * Receives the entries of the table one at a time.
+     *
+     * @param <V> the type of mapped values
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    public IntObjectHashTable() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table sized to hold the given number of entries without resizing.
+     *
+     * @param expectedSize the number of entries the table should accommodate
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public IntObjectHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        allocate(Math.max(2, Hashing.tableSizeFor((int) Math.ceil((expectedSize + 1) / LOAD_FACTOR))));
+    }
+
+    /**
+     * Associates the specified value with the specified key.
+     *
+     * @param key   the key with which the specified value is to be associated
+     * @param value the value to be associated with the specified key
+     * @return the previous value associated with the key, or null if there was no mapping
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key == FREE_KEY) {
+            V oldValue = freeKeyValue;
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return oldValue;
+        }
+
+        int mask = keys.length - 1;
+        int index = Hashing.mix(key) & mask;
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                V oldValue = (V) values[index];
+                values[index] = value;
+                return oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        if (occupiedSlots() > threshold) {
+            resize();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or null if there is no mapping.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the mapped value, or null if no mapping
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key == FREE_KEY) {
+            return freeKeyValue;
+        }
+
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * Removes the mapping for the specified key if present.
+     *
+     * @param key the key whose mapping is to be removed
+     * @return the previous value associated with key, or null if no mapping
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == FREE_KEY) {
+            V oldValue = freeKeyValue;
+            if (hasFreeKey) {
+                hasFreeKey = false;
+                freeKeyValue = null;
+                size--;
+            }
+            return oldValue;
+        }
+
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+
+        V oldValue = (V) values[index];
+        shiftKeys(index);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Returns true if this hash table contains a mapping for the specified key.
+     *
+     * @param key the key whose presence is to be tested
+     * @return true if there is a mapping for the key
+     */
+    public boolean containsKey(int key) {
+        return key == FREE_KEY ? hasFreeKey : indexOf(key) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        allocate(keys.length);
+        hasFreeKey = false;
+        freeKeyValue = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the current load factor of this hash table.
+     *
+     * @return the load factor (number of entries / table size)
+     */
+    public double getLoadFactor() {
+        return (double) size / keys.length;
+    }
+
+    /**
+     * Passes every entry to the given consumer, in no particular order.
+     *
+     * @param consumer the action to perform on each entry
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        if (hasFreeKey) {
+            consumer.accept(FREE_KEY, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private int occupiedSlots() {
+        return hasFreeKey ? size - 1 : size;
+    }
+
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = Hashing.mix(key) & mask;
+        while (keys[index] != FREE_KEY) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Closes the gap left by a removed slot by moving back every following key
+     * whose probe sequence passes through it.
+     */
+    private void shiftKeys(int gap) {
+        int mask = keys.length - 1;
+        int next = gap;
+        while (true) {
+            next = (next + 1) & mask;
+            int key = keys[next];
+            if (key == FREE_KEY) {
+                keys[gap] = FREE_KEY;
+                values[gap] = null;
+                return;
+            }
+
+            int home = Hashing.mix(key) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = key;
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+    }
+
+    private void resize() {
+        if (keys.length == Hashing.MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Hash table is full");
+        }
+
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldKeys.length * 2);
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE_KEY) {
+                int index = Hashing.mix(key) & mask;
+                while (keys[index] != FREE_KEY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        threshold = (int) Math.min(capacity - 1, (long) (capacity * LOAD_FACTOR));
+    }
+}
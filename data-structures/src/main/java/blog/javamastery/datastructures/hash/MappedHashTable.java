@@ -0,0 +1,298 @@
+package blog.javamastery.datastructures.hash;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * A persistent hash table for fixed-width keys and values that lives in a memory-mapped file.
+ * <p>
+ * Reopening a file maps it back in place, so a table survives restarts without being rebuilt
+ * entry by entry. The file starts with a header page holding two header records, followed by
+ * the slots. Each {@link #force()} flushes the slots and then writes a new header record over the
+ * older of the two, so a crash in the middle of writing a header always leaves the previous
+ * one intact; records are validated with a CRC32 checksum on open.
+ * <p>
+ * The first modification after a checkpoint marks the header dirty. If a table is opened whose
+ * latest header is dirty, it was not closed or forced after its last changes, and its slots are
+ * rebuilt and recounted before use. Growing the table writes the larger table to a new file,
+ * checkpoints it and atomically moves it over the old one.
+ * <p>
+ * Values cannot be null. Instances are not thread-safe, and a file must not be opened by more
+ * than one table at a time.
+ *
+ * @param <K> the type of keys maintained by this hash table
+ * @param <V> the type of mapped values
+ */
+public class MappedHashTable<K, V> extends FixedWidthHashTable<K, V> {
+    private static final int MAGIC = 0x4A4D4854; // "JMHT"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4096;
+    private static final int RECORD_BYTES = 40;
+    private static final int[] RECORD_OFFSETS = {0, HEADER_BYTES / 2};
+    private static final String RESIZE_SUFFIX = ".resize";
+
+    private final Path file;
+
+    // The file currently backing the table
+    private Storage storage;
+
+    // The file a running resize is writing to
+    private Storage pending;
+
+    private long sequence;
+    private boolean clean;
+    private boolean recovered;
+
+    /**
+     * An open table file and the mapping of its header page.
+     */
+    private record Storage(Path path, FileChannel channel, MappedByteBuffer header) {
+    }
+
+    /**
+     * Opens the table stored in the given file, creating an empty one if the file does not exist.
+     *
+     * @param file            the file backing the table
+     * @param keySerializer   the serializer for keys
+     * @param valueSerializer the serializer for values
+     * @throws IOException              if the file cannot be read, written or mapped, or its header is invalid
+     * @throws IllegalArgumentException if a serializer is null or does not match the widths stored in the file
+     */
+    public MappedHashTable(Path file, FixedWidthSerializer<K> keySerializer,
+                           FixedWidthSerializer<V> valueSerializer) throws IOException {
+        super(keySerializer, valueSerializer);
+        this.file = file;
+
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+        int initialCapacity = exists ? 0 : MINIMUM_CAPACITY;
+        storage = openStorage(file);
+
+        try {
+            if (exists) {
+                load();
+            } else {
+                attach(mapPages(storage.channel(), initialCapacity, slotsPerPage(initialCapacity)), initialCapacity);
+                clean = true;
+                writeHeader(storage);
+            }
+        } catch (IOException | RuntimeException e) {
+            storage.channel().close();
+            throw e;
+        }
+    }
+
+    /**
+     * Flushes all slots to the file and records a checkpoint in the header. After this call
+     * returns, reopening the file yields the table's current contents even after a crash.
+     *
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    public void force() {
+        ensureOpen();
+        try {
+            for (ByteBuffer page : pages) {
+                ((MappedByteBuffer) page).force();
+            }
+            clean = true;
+            writeHeader(storage);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns true if opening the file found unsaved changes and had to rebuild the table.
+     *
+     * @return true if the table was recovered from an unclean shutdown
+     */
+    public boolean wasRecovered() {
+        return recovered;
+    }
+
+    /**
+     * Returns the file backing this table.
+     *
+     * @return the path of the table file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Checkpoints the table and closes its file. The file is closed even if the checkpoint
+     * fails; the header then still marks the table dirty, so the next open recovers it.
+     */
+    @Override
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        try {
+            force();
+        } finally {
+            super.close();
+        }
+    }
+
+    @Override
+    void beforeWrite() {
+        if (!clean) {
+            return;
+        }
+        try {
+            clean = false;
+            writeHeader(storage);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    ByteBuffer[] allocatePages(int capacity, int slotsPerPage) {
+        try {
+            Path resizeFile = file.resolveSibling(file.getFileName() + RESIZE_SUFFIX);
+            Files.deleteIfExists(resizeFile);
+            pending = openStorage(resizeFile);
+            return mapPages(pending.channel(), capacity, slotsPerPage);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    void releasePages(ByteBuffer[] pages) {
+        try {
+            if (pending == null) {
+                // Closing: the mappings stay valid until collected, the channel can go now
+                storage.channel().close();
+                return;
+            }
+
+            // Checkpoint the new file before it replaces the old one
+            for (ByteBuffer page : this.pages) {
+                ((MappedByteBuffer) page).force();
+            }
+            clean = true;
+            writeHeader(pending);
+            Files.move(pending.path(), file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            storage.channel().close();
+            storage = new Storage(file, pending.channel(), pending.header());
+            pending = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Storage openStorage(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(BYTE_ORDER);
+            return new Storage(path, channel, header);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer[] mapPages(FileChannel channel, int capacity, int slotsPerPage) throws IOException {
+        long pageBytes = (long) slotsPerPage * slotSize;
+        ByteBuffer[] newPages = new ByteBuffer[capacity / slotsPerPage];
+        for (int i = 0; i < newPages.length; i++) {
+            newPages[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + i * pageBytes, pageBytes);
+        }
+        return newPages;
+    }
+
+    /**
+     * Maps an existing file, using the newest valid header record.
+     */
+    private void load() throws IOException {
+        ByteBuffer header = storage.header();
+        int latest = -1;
+        for (int offset : RECORD_OFFSETS) {
+            if (isValidRecord(header, offset)
+                    && (latest < 0 || header.getLong(offset + 8) > header.getLong(latest + 8))) {
+                latest = offset;
+            }
+        }
+        if (latest < 0) {
+            throw new IOException("No valid header found in " + file);
+        }
+
+        int keyWidth = header.getInt(latest + 16);
+        int valueWidth = header.getInt(latest + 20);
+        if (keyWidth != keySerializer.width() || valueWidth != valueSerializer.width()) {
+            throw new IllegalArgumentException(String.format(
+                    "File stores %d-byte keys and %d-byte values, serializers produce %d and %d",
+                    keyWidth, valueWidth, keySerializer.width(), valueSerializer.width()));
+        }
+
+        int storedCapacity = header.getInt(latest + 24);
+        if (Integer.bitCount(storedCapacity) != 1
+                || storage.channel().size() < HEADER_BYTES + (long) storedCapacity * slotSize) {
+            throw new IOException("Header of " + file + " does not match the file size");
+        }
+
+        sequence = header.getLong(latest + 8);
+        size = header.getInt(latest + 28);
+        clean = header.getInt(latest + 32) == 1;
+        attach(mapPages(storage.channel(), storedCapacity, slotsPerPage(storedCapacity)), storedCapacity);
+
+        if (!clean) {
+            // Changes after the last checkpoint may have been cut short; repair the slots
+            recovered = true;
+            rebuild();
+        }
+    }
+
+    private static boolean isValidRecord(ByteBuffer header, int offset) {
+        return header.getInt(offset) == MAGIC
+                && header.getInt(offset + 4) == VERSION
+                && header.getInt(offset + 36) == checksum(header, offset);
+    }
+
+    /**
+     * Writes a header record describing the current state over the older record, then flushes it.
+     */
+    private void writeHeader(Storage target) throws IOException {
+        ByteBuffer header = target.header();
+        int offset = RECORD_OFFSETS[(int) (++sequence % RECORD_OFFSETS.length)];
+
+        header.putInt(offset, MAGIC);
+        header.putInt(offset + 4, VERSION);
+        header.putLong(offset + 8, sequence);
+        header.putInt(offset + 16, keySerializer.width());
+        header.putInt(offset + 20, valueSerializer.width());
+        header.putInt(offset + 24, capacity);
+        header.putInt(offset + 28, size);
+        header.putInt(offset + 32, clean ? 1 : 0);
+        header.putInt(offset + 36, checksum(header, offset));
+        target.header().force();
+    }
+
+    private static int checksum(ByteBuffer header, int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(header.slice(offset, RECORD_BYTES - Integer.BYTES));
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public String toString() {
+        if (isClosed()) {
+            return String.format("[%s] (Closed) (File: %s)", getClass().getSimpleName(), file);
+        }
+        return String.format("[%s] (Size: %d) (Capacity: %d) (File: %s)",
+                getClass().getSimpleName(), size(), capacity(), file);
+    }
+}
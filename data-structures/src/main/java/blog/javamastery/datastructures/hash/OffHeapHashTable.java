@@ -0,0 +1,67 @@
+package blog.javamastery.datastructures.hash;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A hash table for fixed-width keys and values that stores its entries outside the Java heap.
+ * <p>
+ * Entries are serialized into direct {@link ByteBuffer} pages, so a multi-gigabyte table costs
+ * the garbage collector a handful of buffer objects instead of millions of nodes, and nothing
+ * inside the pages is ever scanned. Keys and values are converted by pluggable
+ * {@link FixedWidthSerializer}s; values cannot be null.
+ * <p>
+ * {@link #close()} detaches the pages from the table. The native memory behind a direct buffer is
+ * returned by the JVM once the buffer becomes unreachable, so it is reclaimed right after close
+ * rather than while the table is still referenced. Instances are not thread-safe.
+ *
+ * @param <K> the type of keys maintained by this hash table
+ * @param <V> the type of mapped values
+ */
+public class OffHeapHashTable<K, V> extends FixedWidthHashTable<K, V> {
+
+    public OffHeapHashTable(FixedWidthSerializer<K> keySerializer, FixedWidthSerializer<V> valueSerializer) {
+        this(keySerializer, valueSerializer, 0);
+    }
+
+    /**
+     * Creates a table sized to hold the given number of entries without resizing.
+     *
+     * @param keySerializer   the serializer for keys
+     * @param valueSerializer the serializer for values
+     * @param expectedSize    the number of entries the table should accommodate
+     * @throws IllegalArgumentException if a serializer is null or expectedSize is negative
+     */
+    public OffHeapHashTable(FixedWidthSerializer<K> keySerializer, FixedWidthSerializer<V> valueSerializer,
+                            int expectedSize) {
+        super(keySerializer, valueSerializer);
+        int initialCapacity = capacityFor(expectedSize);
+        attach(allocatePages(initialCapacity, slotsPerPage(initialCapacity)), initialCapacity);
+    }
+
+    @Override
+    ByteBuffer[] allocatePages(int capacity, int slotsPerPage) {
+        ByteBuffer[] newPages = new ByteBuffer[capacity / slotsPerPage];
+        for (int i = 0; i < newPages.length; i++) {
+            newPages[i] = ByteBuffer.allocateDirect(slotsPerPage * slotSize);
+        }
+        return newPages;
+    }
+
+    @Override
+    void releasePages(ByteBuffer[] pages) {
+        // Direct buffers free their memory once they are unreachable; dropping the references is all it takes
+        if (pages != null) {
+            Arrays.fill(pages, null);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isClosed()) {
+            return String.format("[%s] (Closed)", getClass().getSimpleName());
+        }
+        return String.format("[%s] (Size: %d) (Capacity: %d) (Native bytes: %d)",
+                getClass().getSimpleName(), size(), capacity(), nativeMemoryBytes());
+    }
+}
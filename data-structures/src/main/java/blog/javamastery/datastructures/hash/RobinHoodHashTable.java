@@ -0,0 +1,305 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An open-addressing hash table that resolves collisions with Robin Hood linear probing.
+ * <p>
+ * Keys, values and cached hashes live in flat parallel arrays, so no node is allocated
+ * per entry and a lookup scans consecutive slots instead of chasing pointers. On insertion
+ * an entry that is further away from its home slot takes the place of a "richer" one,
+ * which keeps probe sequences short and lets unsuccessful lookups stop early. Removal uses
+ * backward-shift deletion instead of tombstones, so the table never degrades over time.
+ *
+ * @param <K> the type of keys maintained by this hash table
+ * @param <V> the type of mapped values
+ */
+public class RobinHoodHashTable<K, V> implements HashTable<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    // Robin Hood probing keeps probe lengths low even at high occupancy
+    private static final double DEFAULT_LOAD_FACTOR = 0.875;
+
+    // Parallel slot arrays; a null key marks an empty slot
+    private Object[] keys;
+    private Object[] values;
+    private int[] hashes;
+
+    // Number of key-value mappings in the table
+    private int size;
+
+    // Size at which the table is doubled
+    private int threshold;
+
+    private final double loadFactor;
+
+    public RobinHoodHashTable() {
+        this.loadFactor = DEFAULT_LOAD_FACTOR;
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a table sized to hold the given number of entries without resizing.
+     *
+     * @param expectedSize the number of entries the table should accommodate
+     * @throws IllegalArgumentException if expectedSize is negative
+     */
+    public RobinHoodHashTable(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        this.loadFactor = DEFAULT_LOAD_FACTOR;
+        allocate(Math.max(2, Hashing.tableSizeFor((int) Math.ceil((expectedSize + 1) / loadFactor))));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int hash = Hashing.spread(key.hashCode());
+        int index = indexOf(key, hash);
+
+        // If key exists, update value
+        if (index >= 0) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+
+        if (size + 1 > threshold) {
+            resize();
+        }
+        insert(key, value, hash);
+        size++;
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int index = indexOf(key, Hashing.spread(key.hashCode()));
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        int index = indexOf(key, Hashing.spread(key.hashCode()));
+        if (index < 0) {
+            return null;
+        }
+
+        V oldValue = (V) values[index];
+        int mask = keys.length - 1;
+        int next = (index + 1) & mask;
+
+        // Backward-shift: pull every displaced follower one slot closer to home
+        while (keys[next] != null && probeDistance(hashes[next], next, mask) > 0) {
+            keys[index] = keys[next];
+            values[index] = values[next];
+            hashes[index] = hashes[next];
+            index = next;
+            next = (next + 1) & mask;
+        }
+
+        keys[index] = null;
+        values[index] = null;
+        hashes[index] = 0;
+        size--;
+        return oldValue;
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+
+        return indexOf(key, Hashing.spread(key.hashCode())) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        allocate(keys.length);
+        size = 0;
+    }
+
+    @Override
+    public double getLoadFactor() {
+        return (double) size / keys.length;
+    }
+
+    /**
+     * Returns the number of slots currently allocated.
+     *
+     * @return the capacity of the slot arrays
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    private int indexOf(Object key, int hash) {
+        int mask = keys.length - 1;
+        int index = hash & mask;
+
+        for (int distance = 0; ; distance++) {
+            Object slotKey = keys[index];
+            // An empty slot or a richer resident means the key cannot be further along
+            if (slotKey == null || probeDistance(hashes[index], index, mask) < distance) {
+                return -1;
+            }
+            if (hashes[index] == hash && slotKey.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Places an entry that is known to be absent, displacing richer residents on the way.
+     */
+    private void insert(Object key, Object value, int hash) {
+        int mask = keys.length - 1;
+        int index = hash & mask;
+        int distance = 0;
+
+        while (keys[index] != null) {
+            int residentDistance = probeDistance(hashes[index], index, mask);
+            if (residentDistance < distance) {
+                Object displacedKey = keys[index];
+                Object displacedValue = values[index];
+                int displacedHash = hashes[index];
+
+                keys[index] = key;
+                values[index] = value;
+                hashes[index] = hash;
+
+                key = displacedKey;
+                value = displacedValue;
+                hash = displacedHash;
+                distance = residentDistance;
+            }
+            index = (index + 1) & mask;
+            distance++;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        hashes[index] = hash;
+    }
+
+    private static int probeDistance(int hash, int index, int mask) {
+        return (index - (hash & mask)) & mask;
+    }
+
+    private void resize() {
+        if (keys.length == Hashing.MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Hash table is full");
+        }
+
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldKeys.length * 2);
+
+        // Rehash all entries
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        threshold = (int) Math.min(capacity - 1, (long) (capacity * loadFactor));
+    }
+
+    @Override
+    public Iterator<HashTable.Entry<K, V>> iterator() {
+        return new Iterator<>() {
+            private int index = nextOccupied(0);
+
+            private int nextOccupied(int from) {
+                while (from < keys.length && keys[from] == null) {
+                    from++;
+                }
+                return from;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return index < keys.length;
+            }
+
+            @Override
+            public HashTable.Entry<K, V> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                var entry = new SlotEntry(index);
+                index = nextOccupied(index + 1);
+                return entry;
+            }
+        };
+    }
+
+    /**
+     * A view of a single occupied slot.
+     */
+    private class SlotEntry implements HashTable.Entry<K, V> {
+        private final int index;
+        private final K key;
+
+        @SuppressWarnings("unchecked")
+        SlotEntry(int index) {
+            this.index = index;
+            this.key = (K) keys[index];
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[index];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+    }
+}
@@ -2,31 +2,71 @@ package blog.javamastery.datastructures.hash;
 
 import blog.javamastery.datastructures.common.HashTable;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public class SimpleHashTable<K, V> implements HashTable<K, V> {
     private static final int DEFAULT_CAPACITY = 16;
     private static final double DEFAULT_LOAD_FACTOR = 0.75;
 
+    // Number of old buckets migrated by each operation while an incremental resize is running
+    private static final int MIGRATION_STEP = 8;
+
+    // Chain length at which a bucket of mutually comparable keys becomes a tree
+    private static final int TREEIFY_THRESHOLD = 8;
+
+    // Tree size at which a tree bucket turns back into a chain
+    private static final int UNTREEIFY_THRESHOLD = 6;
+
+    /**
+     * How the table grows once the load factor threshold is exceeded.
+     */
+    public enum ResizeMode {
+        /**
+         * Rehash every entry into the new table at once.
+         */
+        EAGER,
+        /**
+         * Keep the old and new tables side by side and migrate a bounded
+         * number of buckets on every subsequent operation.
+         */
+        INCREMENTAL
+    }
+
     // Array of linked entries for chaining
     private Entry<K, V>[] table;
 
+    // Table being drained into `table` while an incremental resize is running, null otherwise
+    private Entry<K, V>[] oldTable;
+
+    // Buckets of `oldTable` below this index have already been migrated
+    private int migrationIndex;
+
     // Number of key-value mappings in the table
     private int size;
 
     // The load factor threshold for resizing
     private final double loadFactor;
 
+    private final ResizeMode resizeMode;
+
     /**
      * Entry class for chaining collision resolution
      */
     private static class Entry<K, V> implements HashTable.Entry<K, V> {
+        final int hash;
         K key;
         V value;
         Entry<K, V> next;
 
-        Entry(K key, V value, Entry<K, V> next) {
+        Entry(int hash, K key, V value, Entry<K, V> next) {
+            this.hash = hash;
             this.key = key;
             this.value = value;
             this.next = next;
@@ -50,10 +90,262 @@ public class SimpleHashTable<K, V> implements HashTable<K, V> {
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Entry of a tree bucket. Besides the AVL links, tree nodes stay in a doubly
+     * linked list through {@code next}/{@code prev}, so iteration treats them like a chain.
+     */
+    private static final class TreeNode<K, V> extends Entry<K, V> {
+        TreeNode<K, V> left;
+        TreeNode<K, V> right;
+        TreeNode<K, V> prev;
+        int height;
+
+        TreeNode(int hash, K key, V value) {
+            super(hash, key, value, null);
+        }
+    }
+
+    /**
+     * Placeholder stored in a bucket that holds an AVL tree instead of a chain. Nodes are
+     * ordered by hash first and by {@code compareTo} among equal hashes, so lookups stay
+     * O(log n) even if every key in the bucket has the same hash code. All keys of a tree
+     * bucket share one class, which implements {@link Comparable} for itself.
+     * <p>
+     * As in {@code java.util.HashMap}, {@code equals} alone decides whether two keys are the
+     * same. Keys that compare as equal without being equal are ordered by identity hash code
+     * on insertion, and lookups that meet such a tie search both subtrees.
+     */
+    private static final class TreeBin<K, V> extends Entry<K, V> {
+        final Class<?> keyClass;
+        TreeNode<K, V> root;
+        TreeNode<K, V> first;
+        int count;
+
+        TreeBin(Class<?> keyClass) {
+            super(0, null, null, null);
+            this.keyClass = keyClass;
+        }
+
+        boolean accepts(Object key) {
+            return key.getClass() == keyClass;
+        }
+
+        TreeNode<K, V> find(int hash, Object key) {
+            return find(root, hash, key);
+        }
+
+        private static <K, V> TreeNode<K, V> find(TreeNode<K, V> node, int hash, Object key) {
+            while (node != null) {
+                int comparison = compare(hash, key, node);
+                if (comparison < 0) {
+                    node = node.left;
+                } else if (comparison > 0) {
+                    node = node.right;
+                } else if (key.equals(node.key)) {
+                    return node;
+                } else {
+                    // A tie that is not the key; the key may sit on either side of it
+                    TreeNode<K, V> found = find(node.right, hash, key);
+                    if (found != null) {
+                        return found;
+                    }
+                    node = node.left;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Tells whether the target node lies in the subtree, following ties into both subtrees.
+         */
+        private static boolean contains(TreeNode<?, ?> node, TreeNode<?, ?> target) {
+            while (node != null) {
+                if (node == target) {
+                    return true;
+                }
+                int comparison = compare(target.hash, target.key, node);
+                if (comparison < 0) {
+                    node = node.left;
+                } else if (comparison > 0) {
+                    node = node.right;
+                } else {
+                    if (contains(node.right, target)) {
+                        return true;
+                    }
+                    node = node.left;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Adds a node for the key unless it is already present.
+         *
+         * @return the existing node, or null if a new one was added
+         */
+        TreeNode<K, V> putTreeVal(int hash, K key, V value) {
+            TreeNode<K, V> existing = find(hash, key);
+            if (existing != null) {
+                return existing;
+            }
+
+            TreeNode<K, V> node = new TreeNode<>(hash, key, value);
+            node.next = first;
+            if (first != null) {
+                first.prev = node;
+            }
+            first = node;
+            root = insert(root, node);
+            count++;
+            return null;
+        }
+
+        /**
+         * Removes the node for the key if present.
+         *
+         * @return the removed node, or null if the key was not found
+         */
+        TreeNode<K, V> removeTreeNode(int hash, Object key) {
+            TreeNode<K, V> node = find(hash, key);
+            if (node == null) {
+                return null;
+            }
+
+            if (node.prev == null) {
+                first = (TreeNode<K, V>) node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next != null) {
+                ((TreeNode<K, V>) node.next).prev = node.prev;
+            }
+
+            root = delete(root, node);
+            count--;
+            return node;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static int compare(int hash, Object key, TreeNode<?, ?> node) {
+            if (hash != node.hash) {
+                return hash < node.hash ? -1 : 1;
+            }
+            return ((Comparable<Object>) key).compareTo(node.key);
+        }
+
+        private TreeNode<K, V> insert(TreeNode<K, V> node, TreeNode<K, V> newNode) {
+            if (node == null) {
+                return newNode;
+            }
+            int comparison = compare(newNode.hash, newNode.key, node);
+            if (comparison == 0) {
+                comparison = tieBreakOrder(newNode.key, node.key);
+            }
+            if (comparison < 0) {
+                node.left = insert(node.left, newNode);
+            } else {
+                node.right = insert(node.right, newNode);
+            }
+            return balance(node);
+        }
+
+        /**
+         * Orders keys that compare as equal without being equal; any consistent order will do.
+         */
+        private static int tieBreakOrder(Object a, Object b) {
+            return System.identityHashCode(a) <= System.identityHashCode(b) ? -1 : 1;
+        }
+
+        private TreeNode<K, V> delete(TreeNode<K, V> node, TreeNode<K, V> target) {
+            int comparison = node == target ? 0 : compare(target.hash, target.key, node);
+            if (comparison == 0 && node != target) {
+                comparison = contains(node.left, target) ? -1 : 1;
+            }
+            if (comparison < 0) {
+                node.left = delete(node.left, target);
+            } else if (comparison > 0) {
+                node.right = delete(node.right, target);
+            } else {
+                if (node.left == null) {
+                    return node.right;
+                } else if (node.right == null) {
+                    return node.left;
+                }
+
+                // Put the successor node in its place; nodes are moved, never copied
+                TreeNode<K, V> successor = node.right;
+                while (successor.left != null) {
+                    successor = successor.left;
+                }
+                successor.right = deleteMin(node.right);
+                successor.left = node.left;
+                node = successor;
+            }
+            return balance(node);
+        }
+
+        private TreeNode<K, V> deleteMin(TreeNode<K, V> node) {
+            if (node.left == null) {
+                return node.right;
+            }
+            node.left = deleteMin(node.left);
+            return balance(node);
+        }
+
+        private static int height(TreeNode<?, ?> node) {
+            return node == null ? -1 : node.height;
+        }
+
+        private TreeNode<K, V> balance(TreeNode<K, V> node) {
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            int balance = height(node.left) - height(node.right);
+
+            if (balance > 1) {
+                if (height(node.left.left) < height(node.left.right)) {
+                    node.left = rotateLeft(node.left);
+                }
+                return rotateRight(node);
+            }
+            if (balance < -1) {
+                if (height(node.right.right) < height(node.right.left)) {
+                    node.right = rotateRight(node.right);
+                }
+                return rotateLeft(node);
+            }
+            return node;
+        }
+
+        private TreeNode<K, V> rotateLeft(TreeNode<K, V> node) {
+            TreeNode<K, V> pivot = node.right;
+            node.right = pivot.left;
+            pivot.left = node;
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            pivot.height = 1 + Math.max(height(pivot.left), height(pivot.right));
+            return pivot;
+        }
+
+        private TreeNode<K, V> rotateRight(TreeNode<K, V> node) {
+            TreeNode<K, V> pivot = node.left;
+            node.left = pivot.right;
+            pivot.right = node;
+            node.height = 1 + Math.max(height(node.left), height(node.right));
+            pivot.height = 1 + Math.max(height(pivot.left), height(pivot.right));
+            return pivot;
+        }
+    }
+
     public SimpleHashTable() {
+        this(ResizeMode.EAGER);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SimpleHashTable(ResizeMode resizeMode) {
+        if (resizeMode == null) {
+            throw new IllegalArgumentException("Resize mode cannot be null");
+        }
         this.table = (Entry<K, V>[]) new Entry[DEFAULT_CAPACITY];
         this.loadFactor = DEFAULT_LOAD_FACTOR;
+        this.resizeMode = resizeMode;
     }
 
     @Override
@@ -66,12 +358,30 @@ public class SimpleHashTable<K, V> implements HashTable<K, V> {
         if ((size + 1.0) / table.length > loadFactor) {
             resize();
         }
-
-        int index = hash(key);
+        migrate(key);
+
+        int hash = spread(key);
+        int index = indexFor(hash, table.length);
+
+        // Tree buckets keep their own order
+        if (table[index] instanceof TreeBin<K, V> bin) {
+            if (bin.accepts(key)) {
+                TreeNode<K, V> existing = bin.putTreeVal(hash, key, value);
+                if (existing != null) {
+                    V oldValue = existing.value;
+                    existing.value = value;
+                    return oldValue;
+                }
+                size++;
+                return null;
+            }
+            // A key of another class cannot be ordered among the others
+            untreeifyBin(index);
+        }
 
         // If no entry exists at this index, create new entry
         if (table[index] == null) {
-            table[index] = new Entry<>(key, value, null);
+            table[index] = new Entry<>(hash, key, value, null);
             size++;
             return null;
         }
@@ -79,81 +389,246 @@ public class SimpleHashTable<K, V> implements HashTable<K, V> {
         // Handle collision by traversing the chain
         Entry<K, V> current = table[index];
         Entry<K, V> prev = null;
+        int chainLength = 0;
 
         while (current != null) {
             // If key exists, update value
-            if (current.key.equals(key)) {
+            if (current.hash == hash && current.key.equals(key)) {
                 V oldValue = current.value;
                 current.value = value;
                 return oldValue;
             }
             prev = current;
             current = current.next;
+            chainLength++;
         }
 
         // Add new entry to the chain
         if (prev != null) {
-            prev.next = new Entry<>(key, value, null);
+            prev.next = new Entry<>(hash, key, value, null);
             size++;
+            if (chainLength + 1 >= TREEIFY_THRESHOLD) {
+                treeifyBin(index);
+            }
         }
         return null;
     }
 
-    private int hash(K key) {
-        return Math.abs(key.hashCode() % table.length);
+    /**
+     * Spreads the higher bits of the hash code downwards, as the bucket index only
+     * uses the low bits of it.
+     */
+    private static int spread(Object key) {
+        return Hashing.spread(key.hashCode());
+    }
+
+    private static int indexFor(int hash, int length) {
+        // Table lengths are always powers of two
+        return hash & (length - 1);
     }
 
     @SuppressWarnings("unchecked")
     private void resize() {
-        Entry<K, V>[] oldTable = table;
+        // A new resize can only start once the previous one has drained
+        finishMigration();
+
+        oldTable = table;
         table = (Entry<K, V>[]) new Entry[oldTable.length * 2];
-        size = 0; // The call to put will increment it below
+        migrationIndex = 0;
+
+        if (resizeMode == ResizeMode.EAGER) {
+            finishMigration();
+        }
+    }
+
+    /**
+     * Performs one bounded step of a running incremental resize. The bucket the
+     * given key hashes to in the old table is always moved first, so the caller
+     * only needs to look at the new table afterwards.
+     */
+    private void migrate(K key) {
+        if (oldTable == null) {
+            return;
+        }
+
+        transferBucket(indexFor(spread(key), oldTable.length));
+        for (int step = 0; step < MIGRATION_STEP && migrationIndex < oldTable.length; step++) {
+            transferBucket(migrationIndex++);
+        }
+
+        if (migrationIndex == oldTable.length) {
+            oldTable = null;
+        }
+    }
 
-        // Rehash all entries
-        for (Entry<K, V> entry : oldTable) {
-            while (entry != null) {
-                put(entry.key, entry.value);
-                entry = entry.next;
+    private void finishMigration() {
+        if (oldTable == null) {
+            return;
+        }
+
+        while (migrationIndex < oldTable.length) {
+            transferBucket(migrationIndex++);
+        }
+        oldTable = null;
+    }
+
+    /**
+     * Moves the entries of an old bucket into the new table. Chain entries are
+     * relinked without allocating.
+     */
+    private void transferBucket(int oldIndex) {
+        Entry<K, V> entry = firstEntry(oldTable[oldIndex]);
+        oldTable[oldIndex] = null;
+
+        while (entry != null) {
+            Entry<K, V> next = entry.next;
+            if (entry instanceof TreeNode<K, V>) {
+                entry = new Entry<>(entry.hash, entry.key, entry.value, null);
             }
+            link(entry);
+            entry = next;
         }
     }
 
-    @Override
-    public V get(K key) {
-        if (key == null) {
-            throw new IllegalArgumentException("Key cannot be null");
+    /**
+     * Adds a detached entry whose key is known to be absent to the current table.
+     */
+    private void link(Entry<K, V> entry) {
+        int index = indexFor(entry.hash, table.length);
+
+        if (table[index] instanceof TreeBin<K, V> bin) {
+            if (bin.accepts(entry.key)) {
+                bin.putTreeVal(entry.hash, entry.key, entry.value);
+                return;
+            }
+            untreeifyBin(index);
         }
 
-        int index = hash(key);
-        Entry<K, V> current = table[index];
+        entry.next = table[index];
+        table[index] = entry;
 
-        while (current != null) {
-            if (current.key.equals(key)) {
-                return current.value;
+        int chainLength = 0;
+        for (Entry<K, V> current = entry; current != null; current = current.next) {
+            chainLength++;
+        }
+        if (chainLength >= TREEIFY_THRESHOLD) {
+            treeifyBin(index);
+        }
+    }
+
+    /**
+     * Turns the chain at the given index into a tree bucket, provided all of its
+     * keys are of one class that is comparable to itself.
+     */
+    private void treeifyBin(int index) {
+        Entry<K, V> head = table[index];
+        Class<?> keyClass = comparableClassFor(head.key);
+        if (keyClass == null) {
+            return;
+        }
+        for (Entry<K, V> current = head; current != null; current = current.next) {
+            if (current.key.getClass() != keyClass) {
+                return;
             }
-            current = current.next;
         }
 
+        TreeBin<K, V> bin = new TreeBin<>(keyClass);
+        for (Entry<K, V> current = head; current != null; current = current.next) {
+            bin.putTreeVal(current.hash, current.key, current.value);
+        }
+        table[index] = bin;
+    }
+
+    /**
+     * Turns the tree bucket at the given index back into a chain.
+     */
+    private void untreeifyBin(int index) {
+        TreeBin<K, V> bin = (TreeBin<K, V>) table[index];
+        Entry<K, V> head = null;
+        for (Entry<K, V> node = bin.first; node != null; node = node.next) {
+            head = new Entry<>(node.hash, node.key, node.value, head);
+        }
+        table[index] = head;
+    }
+
+    /**
+     * Returns the class of the key if it is declared as {@code Comparable} to
+     * itself, such as {@code class C implements Comparable<C>}, otherwise null.
+     */
+    private static Class<?> comparableClassFor(Object key) {
+        if (!(key instanceof Comparable)) {
+            return null;
+        }
+        Class<?> keyClass = key.getClass();
+        if (keyClass == String.class) {
+            return keyClass;
+        }
+
+        for (Type type : keyClass.getGenericInterfaces()) {
+            if (type instanceof ParameterizedType parameterized
+                    && parameterized.getRawType() == Comparable.class) {
+                Type[] arguments = parameterized.getActualTypeArguments();
+                if (arguments.length == 1 && arguments[0] == keyClass) {
+                    return keyClass;
+                }
+            }
+        }
         return null;
     }
 
+    /**
+     * Returns the first entry stored in a bucket, looking through tree placeholders.
+     */
+    private static <K, V> Entry<K, V> firstEntry(Entry<K, V> bucket) {
+        return bucket instanceof TreeBin<K, V> bin ? bin.first : bucket;
+    }
+
+    /**
+     * Returns true while an incremental resize is still migrating buckets.
+     *
+     * @return true if the old and new bucket arrays currently coexist
+     */
+    public boolean isResizing() {
+        return oldTable != null;
+    }
+
+    @Override
+    public V get(K key) {
+        Entry<K, V> entry = findEntry(key);
+        return entry == null ? null : entry.value;
+    }
+
     @Override
     public V remove(K key) {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
+        migrate(key);
 
-        int index = hash(key);
+        int hash = spread(key);
+        int index = indexFor(hash, table.length);
 
         if (table[index] == null) {
             return null;
         }
 
+        if (table[index] instanceof TreeBin<K, V> bin) {
+            TreeNode<K, V> node = bin.accepts(key) ? bin.removeTreeNode(hash, key) : null;
+            if (node == null) {
+                return null;
+            }
+            size--;
+            if (bin.count <= UNTREEIFY_THRESHOLD) {
+                untreeifyBin(index);
+            }
+            return node.value;
+        }
+
         Entry<K, V> current = table[index];
         Entry<K, V> prev = null;
 
         while (current != null) {
-            if (current.key.equals(key)) {
+            if (current.hash == hash && current.key.equals(key)) {
                 V oldValue = current.value;
                 if (prev == null) {
                     // It's the first element in the chain
@@ -173,21 +648,30 @@ public class SimpleHashTable<K, V> implements HashTable<K, V> {
 
     @Override
     public boolean containsKey(K key) {
+        return findEntry(key) != null;
+    }
+
+    private Entry<K, V> findEntry(K key) {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
+        migrate(key);
 
-        int index = hash(key);
-        Entry<K, V> current = table[index];
+        int hash = spread(key);
+        Entry<K, V> current = table[indexFor(hash, table.length)];
+
+        if (current instanceof TreeBin<K, V> bin) {
+            return bin.accepts(key) ? bin.find(hash, key) : null;
+        }
 
         while (current != null) {
-            if (current.key.equals(key)) {
-                return true;
+            if (current.hash == hash && current.key.equals(key)) {
+                return current;
             }
             current = current.next;
         }
 
-        return false;
+        return null;
     }
 
     @Override
@@ -204,6 +688,8 @@ public class SimpleHashTable<K, V> implements HashTable<K, V> {
     @Override
     public void clear() {
         this.table = (Entry<K, V>[]) new Entry[this.table.length];
+        this.oldTable = null;
+        this.migrationIndex = 0;
         this.size = 0;
     }
 
@@ -212,8 +698,116 @@ public class SimpleHashTable<K, V> implements HashTable<K, V> {
         return (double) size / table.length;
     }
 
+    /**
+     * Grows the bucket array once, so the given number of entries fits without
+     * further resizing. Entries are relinked rather than re-put.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        finishMigration();
+
+        int length = table.length;
+        while (expectedSize / (double) length > loadFactor && length < Hashing.MAXIMUM_CAPACITY) {
+            length *= 2;
+        }
+        if (length == table.length) {
+            return;
+        }
+
+        oldTable = table;
+        table = (Entry<K, V>[]) new Entry[length];
+        migrationIndex = 0;
+        finishMigration();
+    }
+
+    @Override
+    public void putAll(HashTable<? extends K, ? extends V> other) {
+        if (other == this) {
+            return;
+        }
+        ensureCapacity(size + other.size());
+        other.forEach(this::put);
+    }
+
+    /**
+     * Unlinks matching entries in a single pass over the buckets.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super HashTable.Entry<K, V>> filter) {
+        finishMigration();
+
+        // Size is kept current at every unlink, in case the filter throws
+        boolean removed = false;
+        for (int index = 0; index < table.length; index++) {
+            if (table[index] instanceof TreeBin<K, V> bin) {
+                for (Entry<K, V> node = bin.first; node != null; ) {
+                    Entry<K, V> next = node.next;
+                    if (filter.test(node)) {
+                        bin.removeTreeNode(node.hash, node.key);
+                        size--;
+                        removed = true;
+                    }
+                    node = next;
+                }
+                if (bin.count <= UNTREEIFY_THRESHOLD) {
+                    untreeifyBin(index);
+                }
+                continue;
+            }
+
+            Entry<K, V> current = table[index];
+            Entry<K, V> prev = null;
+
+            while (current != null) {
+                if (filter.test(current)) {
+                    if (prev == null) {
+                        table[index] = current.next;
+                    } else {
+                        prev.next = current.next;
+                    }
+                    size--;
+                    removed = true;
+                } else {
+                    prev = current;
+                }
+                current = current.next;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Walks the buckets directly, without an iterator.
+     */
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        finishMigration();
+        for (Entry<K, V> bucket : table) {
+            for (Entry<K, V> entry = firstEntry(bucket); entry != null; entry = entry.next) {
+                action.accept(entry.key, entry.value);
+            }
+        }
+    }
+
+    /**
+     * Returns a spliterator that splits by bucket ranges, so parallel streams
+     * hand each worker a contiguous part of the table.
+     */
+    @Override
+    public Spliterator<HashTable.Entry<K, V>> spliterator() {
+        finishMigration();
+        return new BucketSpliterator<>(table, 0, table.length, size);
+    }
+
+    /**
+     * Returns an iterator over the entries. A running incremental resize is
+     * completed first, so the iterator sees every entry exactly once.
+     */
     @Override
     public Iterator<HashTable.Entry<K, V>> iterator() {
+        finishMigration();
         return new Iterator<>() {
             private int arrayIndex = 0;
             private Entry<K, V> current = null;
@@ -229,7 +823,7 @@ public class SimpleHashTable<K, V> implements HashTable<K, V> {
                 current = null;
                 while (arrayIndex < table.length) {
                     if (table[arrayIndex] != null) {
-                        current = table[arrayIndex];
+                        current = firstEntry(table[arrayIndex]);
                         arrayIndex++;
                         return;
                     }
@@ -257,4 +851,77 @@ public class SimpleHashTable<K, V> implements HashTable<K, V> {
             }
         };
     }
+
+    /**
+     * Spliterator over the buckets [index, fence) of a table.
+     */
+    private static final class BucketSpliterator<K, V> implements Spliterator<HashTable.Entry<K, V>> {
+        private final Entry<K, V>[] table;
+        private int index;
+        private final int fence;
+        private Entry<K, V> current;
+        private long estimatedSize;
+        // Only the spliterator covering the whole table knows its exact size
+        private boolean exact;
+
+        BucketSpliterator(Entry<K, V>[] table, int index, int fence, long estimatedSize) {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+            this.exact = index == 0 && fence == table.length;
+        }
+
+        @Override
+        public Spliterator<HashTable.Entry<K, V>> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (current != null || mid <= index) {
+                return null;
+            }
+
+            estimatedSize >>>= 1;
+            exact = false;
+            var prefix = new BucketSpliterator<>(table, index, mid, estimatedSize);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super HashTable.Entry<K, V>> action) {
+            while (current != null || index < fence) {
+                if (current == null) {
+                    current = firstEntry(table[index++]);
+                    continue;
+                }
+                Entry<K, V> entry = current;
+                current = current.next;
+                action.accept(entry);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super HashTable.Entry<K, V>> action) {
+            for (Entry<K, V> entry = current; entry != null; entry = entry.next) {
+                action.accept(entry);
+            }
+            current = null;
+            for (; index < fence; index++) {
+                for (Entry<K, V> entry = firstEntry(table[index]); entry != null; entry = entry.next) {
+                    action.accept(entry);
+                }
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimatedSize;
+        }
+
+        @Override
+        public int characteristics() {
+            return DISTINCT | NONNULL | (exact ? SIZED : 0);
+        }
+    }
 }
@@ -0,0 +1,217 @@
+package blog.javamastery.datastructures.queue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe, bounded first-in, first-out queue whose producers wait while it is full
+ * and whose consumers wait while it is empty, instead of spinning on a null result.
+ * <p>
+ * Elements live in a circular array allocated once. One {@link ReentrantLock} guards it,
+ * with one {@link Condition} per side: producers wait on {@code notFull}, consumers on
+ * {@code notEmpty}, and each operation signals only the other side. Waiting on a
+ * {@code Condition} rather than a monitor lets a virtual thread unmount from its carrier,
+ * so thousands of blocked virtual threads cost no platform threads.
+ *
+ * @param <T> the type of elements held in this queue
+ */
+public class BoundedBlockingQueue<T> {
+    private final Object[] elements;
+
+    // Index of the head element and number of elements, both guarded by the lock
+    private int head;
+    private int count;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Creates a queue that holds at most the given number of elements.
+     *
+     * @param capacity the maximum number of elements
+     */
+    public BoundedBlockingQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Adds the element at the tail, waiting for space if the queue is full.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void put(T element) throws InterruptedException {
+        requireElement(element);
+        lock.lockInterruptibly();
+        try {
+            while (count == elements.length) {
+                notFull.await();
+            }
+            insert(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element at the tail if there is space, without waiting.
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue was full
+     */
+    public boolean offer(T element) {
+        requireElement(element);
+        lock.lock();
+        try {
+            if (count == elements.length) {
+                return false;
+            }
+            insert(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the element at the tail, waiting up to the given time for space.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait
+     * @param unit    the unit of the timeout
+     * @return true if the element was added, false if the time ran out first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        requireElement(element);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == elements.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            insert(element);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the head, waiting for an element if the queue is empty.
+     *
+     * @return the head of the queue
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the head, or null if the queue is empty, without waiting.
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return count == 0 ? null : extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the head, waiting up to the given time for an element.
+     *
+     * @param timeout how long to wait
+     * @param unit    the unit of the timeout
+     * @return the head of the queue, or null if the time ran out first
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return extract();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        lock.lock();
+        try {
+            return (T) elements[head];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int remainingCapacity() {
+        return elements.length - size();
+    }
+
+    public int getCapacity() {
+        return elements.length;
+    }
+
+    private static void requireElement(Object element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+    }
+
+    // The helpers below run with the lock held
+
+    private void insert(T element) {
+        int tail = head + count;
+        elements[tail < elements.length ? tail : tail - elements.length] = element;
+        count++;
+        notEmpty.signal();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T extract() {
+        T element = (T) elements[head];
+        elements[head] = null;
+        head = head + 1 == elements.length ? 0 : head + 1;
+        count--;
+        notFull.signal();
+        return element;
+    }
+}
@@ -0,0 +1,188 @@
+package blog.javamastery.datastructures.queue;
+
+import blog.javamastery.datastructures.common.Queue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A double-ended queue stored in a circular array. Unlike {@link SimpleQueue} it allocates
+ * nothing per element: the head and tail chase each other around the array, which only
+ * grows when it is full and halves when it is three quarters empty, like the array of
+ * {@link blog.javamastery.datastructures.stack.SimpleStack}.
+ * <p>
+ * The capacity is always a power of two, so wrapping an index around is a single mask.
+ * As a {@link Queue}, elements enter at the tail and leave at the head.
+ *
+ * @param <T> the type of elements held in this deque
+ */
+public class CircularArrayDeque<T> implements Queue<T> {
+    private static final int minLength = 16;
+    private static final int growthRatio = 2;
+    private static final int shrinkThreshold = 4;
+
+    private T[] elements;
+
+    // Index of the first element; the last one is at (head + size - 1) & mask
+    private int head;
+    private int size;
+
+    public CircularArrayDeque() {
+        this.elements = createArray(minLength);
+        this.head = 0;
+        this.size = 0;
+    }
+
+    @Override
+    public void enqueue(T element) {
+        addLast(element);
+    }
+
+    @Override
+    public T dequeue() {
+        return pollFirst();
+    }
+
+    @Override
+    public T peek() {
+        return peekFirst();
+    }
+
+    public void addFirst(T element) {
+        requireElement(element);
+        growIfFull();
+        head = (head - 1) & mask();
+        elements[head] = element;
+        size++;
+    }
+
+    public void addLast(T element) {
+        requireElement(element);
+        growIfFull();
+        elements[(head + size) & mask()] = element;
+        size++;
+    }
+
+    public T pollFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+
+        T element = elements[head];
+        elements[head] = null;
+        head = (head + 1) & mask();
+        size--;
+        shrinkIfSparse();
+        return element;
+    }
+
+    public T pollLast() {
+        if (isEmpty()) {
+            return null;
+        }
+
+        int tail = (head + size - 1) & mask();
+        T element = elements[tail];
+        elements[tail] = null;
+        size--;
+        shrinkIfSparse();
+        return element;
+    }
+
+    public T peekFirst() {
+        return isEmpty() ? null : elements[head];
+    }
+
+    public T peekLast() {
+        return isEmpty() ? null : elements[(head + size - 1) & mask()];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    private int mask() {
+        return elements.length - 1;
+    }
+
+    private static void requireElement(Object element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+    }
+
+    private void growIfFull() {
+        if (size == elements.length) {
+            resize(elements.length * growthRatio);
+        }
+    }
+
+    private void shrinkIfSparse() {
+        if (size <= elements.length / shrinkThreshold && elements.length > minLength) {
+            resize(elements.length / growthRatio);
+        }
+    }
+
+    /**
+     * Copies the elements into a new array of the given length, unwrapped so the head is at index 0.
+     */
+    private void resize(int newLength) {
+        T[] resized = createArray(newLength);
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, resized, 0, firstPart);
+        System.arraycopy(elements, 0, resized, firstPart, size - firstPart);
+        elements = resized;
+        head = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] createArray(int size) {
+        return (T[]) new Object[size];
+    }
+
+    /**
+     * Returns an iterator from head to tail.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elements[(head + index++) & mask()];
+            }
+        };
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] (Size: %d) (Capacity: %d)",
+                getClass().getSimpleName(), size(), capacity());
+    }
+}
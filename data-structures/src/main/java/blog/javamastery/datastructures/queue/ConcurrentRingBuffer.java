@@ -0,0 +1,202 @@
+package blog.javamastery.datastructures.queue;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free queue for any number of producers and consumers, backed by a ring
+ * buffer that is allocated once.
+ * <p>
+ * Every slot carries a sequence number that says whose turn it is: a slot at position p is
+ * free for the producer of p when its sequence equals p, and holds an element for the
+ * consumer of p when it equals p + 1. Producers and consumers claim positions by a CAS on
+ * their own counter and then hand the slot over by publishing its next sequence, so the
+ * two sides never contend with each other, only among themselves. The counters are padded
+ * onto cache lines of their own so that producers and consumers do not invalidate each
+ * other's line.
+ * <p>
+ * {@link #offer} and {@link #poll} never block; they fail fast when the buffer is full or
+ * empty. {@link #size()} is an estimate while other threads are active.
+ *
+ * @param <T> the type of elements held in this queue
+ */
+public class ConcurrentRingBuffer<T> {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    // Next position to fill and next position to take
+    private final Sequence tail = new Sequence();
+    private final Sequence head = new Sequence();
+
+    /**
+     * Creates a queue holding at most the given number of elements, rounded up to a power of two.
+     *
+     * @param capacity the minimum number of elements the queue can hold
+     */
+    public ConcurrentRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity cannot exceed " + MAXIMUM_CAPACITY);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the element at the tail unless the queue is full.
+     *
+     * @param element the element to add
+     * @return true if the element was added, false if the queue was full
+     */
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer[index] = element;
+                    // Hand the slot to the consumer of this position
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The slot still holds the element from one lap ago
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the head, or null if the queue is empty.
+     */
+    public T poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.getAcquire(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    return take(index, position);
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                // The producer of this position has not published yet
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code max} elements from the head and passes them to the consumer in order.
+     * The whole batch is claimed with a single CAS, so consumers contend once per batch
+     * instead of once per element.
+     *
+     * @param consumer receives the removed elements
+     * @param max      the largest number of elements to remove
+     * @return the number of elements removed
+     */
+    public int drain(Consumer<? super T> consumer, int max) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("Consumer cannot be null");
+        }
+        if (max < 0) {
+            throw new IllegalArgumentException("Maximum cannot be negative");
+        }
+
+        while (true) {
+            long position = head.get();
+            // Count the published slots from the head; they stay published until the head passes them
+            int available = 0;
+            while (available < max && available <= mask
+                    && sequences.getAcquire((int) (position + available) & mask) == position + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (head.compareAndSet(position, position + available)) {
+                for (int i = 0; i < available; i++) {
+                    consumer.accept(take((int) (position + i) & mask, position + i));
+                }
+                return available;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements, exact only while no other thread modifies the queue.
+     */
+    public int size() {
+        // Read the head first, so a concurrent poll cannot make the difference negative
+        long headPosition = head.get();
+        long tailPosition = tail.get();
+        return (int) Math.max(0, Math.min(buffer.length, tailPosition - headPosition));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T take(int index, long position) {
+        T element = (T) buffer[index];
+        buffer[index] = null;
+        // Free the slot for the producer one lap ahead
+        sequences.setRelease(index, position + buffer.length);
+        return element;
+    }
+
+    // A counter padded by 56 bytes on each side, so it never shares a 64-byte cache line.
+    // Superclass fields are laid out first, which keeps the padding in front of the value.
+
+    @SuppressWarnings("unused")
+    private static class LeftPadding {
+        long p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    private static class Value extends LeftPadding {
+        volatile long value;
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Sequence extends Value {
+        private static final AtomicLongFieldUpdater<Value> VALUE =
+                AtomicLongFieldUpdater.newUpdater(Value.class, "value");
+
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        long get() {
+            return value;
+        }
+
+        boolean compareAndSet(long expected, long next) {
+            return VALUE.compareAndSet(this, expected, next);
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package blog.javamastery.datastructures.queue;
 
-import blog.javamastery.datastructures.common.Streamable;
+import blog.javamastery.datastructures.common.Queue;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-public class SimpleQueue<T> implements Iterable<T>, Streamable<T> {
+public class SimpleQueue<T> implements Queue<T> {
     private static class Node<T> {
         T data;
         Node<T> next;
@@ -28,6 +30,7 @@ public class SimpleQueue<T> implements Iterable<T>, Streamable<T> {
         size = 0;
     }
 
+    @Override
     public void enqueue(T element) {
         if (element == null) {
             throw new IllegalArgumentException("Element cannot be null");
@@ -44,6 +47,7 @@ public class SimpleQueue<T> implements Iterable<T>, Streamable<T> {
         size++;
     }
 
+    @Override
     public T dequeue() {
         if (isEmpty()) {
             return null;
@@ -60,14 +64,17 @@ public class SimpleQueue<T> implements Iterable<T>, Streamable<T> {
         return data;
     }
 
+    @Override
     public T peek() {
         return isEmpty() ? null : head.data;
     }
 
+    @Override
     public boolean isEmpty() {
         return size == 0;
     }
 
+    @Override
     public int size() {
         return size;
     }
@@ -94,6 +101,15 @@ public class SimpleQueue<T> implements Iterable<T>, Streamable<T> {
         };
     }
 
+    /**
+     * Returns a spliterator that knows its exact size and splits into halves of the remaining
+     * nodes, so parallel streams can hand the batches to other workers.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BatchSpliterator<>(head, size);
+    }
+
     @Override
     public Stream<T> stream() {
         return StreamSupport.stream(spliterator(), false);
@@ -116,4 +132,71 @@ public class SimpleQueue<T> implements Iterable<T>, Streamable<T> {
         }
         return String.format("%s[%s]", getClass().getSimpleName(), sb);
     }
+
+    /**
+     * Spliterator over the next {@code remaining} nodes of a list, starting at {@code current}.
+     * <p>
+     * A linked list cannot be split without walking it, so each split walks to the middle of
+     * the remaining nodes and hands the first half off as a batch. Walking does not copy, and
+     * the batch splits again on whichever worker picks it up, so the walks themselves run in
+     * parallel below the first split. Batches smaller than {@code MIN_BATCH} are not split.
+     */
+    private static final class BatchSpliterator<T> implements Spliterator<T> {
+        private static final int MIN_BATCH = 1 << 10;
+
+        private Node<T> current;
+        private long remaining;
+
+        BatchSpliterator(Node<T> current, long remaining) {
+            this.current = current;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            long batch = remaining >>> 1;
+            if (batch < MIN_BATCH) {
+                return null;
+            }
+
+            var prefix = new BatchSpliterator<>(current, batch);
+            for (long i = 0; i < batch; i++) {
+                current = current.next;
+            }
+            remaining -= batch;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining <= 0) {
+                return false;
+            }
+            T data = current.data;
+            current = current.next;
+            remaining--;
+            action.accept(data);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Node<T> node = current;
+            for (; remaining > 0; remaining--) {
+                action.accept(node.data);
+                node = node.next;
+            }
+            current = node;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | SIZED | SUBSIZED;
+        }
+    }
 }
@@ -0,0 +1,352 @@
+package blog.javamastery.datastructures.skiplist;
+
+import blog.javamastery.datastructures.common.Streamable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A thread-safe ordered set built as a lock-free skip list, offering the query surface of
+ * {@link blog.javamastery.datastructures.tree.BinarySearchTree} without a global lock.
+ * <p>
+ * Every value sits in a sorted linked list at level 0, and a random half of the nodes of
+ * each level are also linked one level up, so searches skip ahead in O(log n) expected
+ * steps. A node is removed logically by replacing each of its outgoing links with a
+ * {@link Marked} wrapper, top level first, and the thread whose CAS marks level 0 is the
+ * one that removed it. A marked link can no longer be swung, so nothing is ever linked
+ * behind a deleted node. Traversals that run into marked nodes unlink them with a CAS, so no
+ * thread ever waits for another. {@link #contains} never writes at all.
+ * <p>
+ * {@link #size()}, {@link #min()}, {@link #max()}, iteration and {@link #range} are weakly
+ * consistent: they never fail under concurrent updates and see every value that was
+ * present for their whole duration, but may or may not see concurrent changes.
+ *
+ * @param <T> the type of values stored in the skip list
+ */
+public class ConcurrentSkipList<T extends Comparable<T>> implements Iterable<T>, Streamable<T> {
+    private static final int MAX_LEVEL = 32;
+
+    private static final class Node<T> {
+        final T value;
+
+        // Per level: the successor node, or a Marked wrapper around it once this node is deleted
+        final AtomicReferenceArray<Object> next;
+
+        Node(T value, int topLevel) {
+            this.value = value;
+            this.next = new AtomicReferenceArray<>(topLevel + 1);
+        }
+
+        int topLevel() {
+            return next.length() - 1;
+        }
+    }
+
+    /**
+     * Link of a deleted node. Being a distinct object, it fails every CAS that expects a node.
+     */
+    private record Marked<T>(Node<T> next) {
+    }
+
+    // Sentinel smaller than every value; the end of each level is null
+    private final Node<T> head = new Node<>(null, MAX_LEVEL - 1);
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Adds the value unless it is already present.
+     *
+     * @param value the value to add
+     * @return true if this call added the value
+     */
+    public boolean insert(T value) {
+        requireValue(value);
+        int topLevel = randomLevel();
+        @SuppressWarnings("unchecked")
+        Node<T>[] preds = new Node[MAX_LEVEL];
+        @SuppressWarnings("unchecked")
+        Node<T>[] succs = new Node[MAX_LEVEL];
+
+        while (true) {
+            if (find(value, preds, succs)) {
+                return false;
+            }
+            Node<T> node = new Node<>(value, topLevel);
+            for (int level = 0; level <= topLevel; level++) {
+                node.next.set(level, succs[level]);
+            }
+
+            // Linking level 0 makes the value part of the set; the levels above are only shortcuts
+            if (!preds[0].next.compareAndSet(0, succs[0], node)) {
+                continue;
+            }
+            count.increment();
+            linkUpperLevels(node, preds, succs);
+            return true;
+        }
+    }
+
+    private void linkUpperLevels(Node<T> node, Node<T>[] preds, Node<T>[] succs) {
+        for (int level = 1; level <= node.topLevel(); level++) {
+            while (true) {
+                // Point past the future predecessor first; a mark means a deleter got here first
+                Object current = node.next.get(level);
+                if (current instanceof Marked<?>
+                        || (current != succs[level] && !node.next.compareAndSet(level, current, succs[level]))) {
+                    return;
+                }
+                if (preds[level].next.compareAndSet(level, succs[level], node)) {
+                    break;
+                }
+                // Something changed around the node: search again, unless it is already gone
+                if (!find(node.value, preds, succs) || succs[0] != node) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public boolean contains(T value) {
+        requireValue(value);
+        Node<T> node = lowerBound(value);
+        return node != null && node.value.compareTo(value) == 0;
+    }
+
+    /**
+     * Removes the value if it is present.
+     *
+     * @param value the value to remove
+     * @return true if this call removed the value
+     */
+    public boolean delete(T value) {
+        requireValue(value);
+        @SuppressWarnings("unchecked")
+        Node<T>[] preds = new Node[MAX_LEVEL];
+        @SuppressWarnings("unchecked")
+        Node<T>[] succs = new Node[MAX_LEVEL];
+
+        if (!find(value, preds, succs)) {
+            return false;
+        }
+        Node<T> victim = succs[0];
+
+        // Mark the shortcut levels top-down, so the node disappears from searches before the set
+        for (int level = victim.topLevel(); level >= 1; level--) {
+            while (!mark(victim, level)) {
+                if (victim.next.get(level) instanceof Marked<?>) {
+                    break;
+                }
+            }
+        }
+
+        // Whoever marks level 0 removed the value
+        while (!mark(victim, 0)) {
+            if (victim.next.get(0) instanceof Marked<?>) {
+                return false;
+            }
+        }
+        count.decrement();
+        // Unlink the marked node from every level
+        find(value, preds, succs);
+        return true;
+    }
+
+    /**
+     * Returns the number of values, weakly consistent under concurrent updates.
+     */
+    public int size() {
+        return (int) count.sum();
+    }
+
+    public T min() {
+        Node<T> first = firstNode();
+        if (first == null) {
+            throw new IllegalStateException("Skip list is empty");
+        }
+        return first.value;
+    }
+
+    public T max() {
+        // Run to the end of each level; level 0 ends on the last live node
+        Node<T> last = head;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            for (Node<T> curr = successor(last, level); curr != null; curr = successor(curr, level)) {
+                last = curr;
+            }
+        }
+        if (last == head) {
+            throw new IllegalStateException("Skip list is empty");
+        }
+        return last.value;
+    }
+
+    /**
+     * Returns a lazy, sorted stream of the values in {@code [from, to)}. It finds the lower
+     * bound in O(log n) expected steps and then walks level 0.
+     *
+     * @param from the lowest value to include
+     * @param to   the value at which to stop, exclusive
+     * @return a weakly consistent stream of the values between the bounds
+     * @throws IllegalArgumentException if a bound is null or from is greater than to
+     */
+    public Stream<T> range(T from, T to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Lower bound cannot be greater than upper bound");
+        }
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(new LevelZeroIterator(lowerBound(from), to),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                        | Spliterator.CONCURRENT);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Returns a weakly consistent iterator over the values in sorted order.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LevelZeroIterator(firstNode(), null);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                        | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Walks level 0 from the given node, skipping nodes that were deleted meanwhile.
+     */
+    private class LevelZeroIterator implements Iterator<T> {
+        private final T to;
+        private Node<T> next;
+
+        LevelZeroIterator(Node<T> first, T to) {
+            this.next = first;
+            this.to = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null && (to == null || next.value.compareTo(to) < 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T value = next.value;
+            next = successor(next, 0);
+            return value;
+        }
+    }
+
+    private static void requireValue(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+    }
+
+    /**
+     * Picks the top level of a new node: level k with probability 2^-(k+1).
+     */
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+
+    /**
+     * Tries once to mark the node's link on a level, which fails if the link changed or is already marked.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> boolean mark(Node<T> node, int level) {
+        Object link = node.next.get(level);
+        return !(link instanceof Marked<?>)
+                && node.next.compareAndSet(level, link, new Marked<>((Node<T>) link));
+    }
+
+    /**
+     * Returns the first live node after the given one on a level, without unlinking anything.
+     */
+    private static <T> Node<T> successor(Node<T> node, int level) {
+        Node<T> curr = unmarked(node.next.get(level));
+        while (curr != null && curr.next.get(level) instanceof Marked<?> marked) {
+            curr = unmarked(marked);
+        }
+        return curr;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> unmarked(Object link) {
+        return (Node<T>) (link instanceof Marked<?> marked ? marked.next() : link);
+    }
+
+    private Node<T> firstNode() {
+        return successor(head, 0);
+    }
+
+    /**
+     * Returns the first live node whose value is not less than the given one, without writing.
+     */
+    private Node<T> lowerBound(T value) {
+        Node<T> pred = head;
+        Node<T> curr = null;
+        for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+            curr = successor(pred, level);
+            while (curr != null && curr.value.compareTo(value) < 0) {
+                pred = curr;
+                curr = successor(curr, level);
+            }
+        }
+        return curr;
+    }
+
+    /**
+     * Fills in, for every level, the last node before the value and the first node at or after
+     * it, unlinking marked nodes on the way. Restarts from the head whenever an unlink loses a race.
+     *
+     * @return true if a live node holds the value
+     */
+    private boolean find(T value, Node<T>[] preds, Node<T>[] succs) {
+        retry:
+        while (true) {
+            Node<T> pred = head;
+            for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+                Node<T> curr = unmarked(pred.next.get(level));
+                while (curr != null) {
+                    Object link = curr.next.get(level);
+                    Node<T> succ = unmarked(link);
+                    if (link instanceof Marked<?>) {
+                        if (!pred.next.compareAndSet(level, curr, succ)) {
+                            continue retry;
+                        }
+                        curr = succ;
+                    } else if (curr.value.compareTo(value) < 0) {
+                        pred = curr;
+                        curr = succ;
+                    } else {
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return succs[0] != null && succs[0].value.compareTo(value) == 0;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package blog.javamastery.datastructures.stack;
+
+/**
+ * Decides how the array-backed stacks resize their backing array.
+ * <p>
+ * A full array grows by {@code growthFactor}. After a pop, an array whose size has dropped to
+ * {@code 1 / shrinkThreshold} of its length or below shrinks by the same factor, but never
+ * below {@code minCapacity}. The threshold has to exceed the growth factor, which leaves a
+ * gap between the size at which an array shrinks and the size at which it grows again: a
+ * stack whose size oscillates inside that gap never resizes. Widening the gap with a larger
+ * threshold trades memory for fewer copies. A threshold of {@code 0} disables shrinking
+ * altogether; such stacks only give memory back through {@code trimToSize}.
+ *
+ * @param minCapacity     the initial length of the array and the length it never shrinks below
+ * @param growthFactor    the factor by which a full array grows, greater than 1
+ * @param shrinkThreshold the fraction {@code 1 / shrinkThreshold} of the length at or below
+ *                        which the array shrinks, or {@code 0} to never shrink
+ */
+public record GrowthPolicy(int minCapacity, double growthFactor, int shrinkThreshold) {
+
+    /**
+     * Starts at 16 elements, doubles when full and halves when a quarter full.
+     */
+    public static final GrowthPolicy DEFAULT = new GrowthPolicy(16, 2.0, 4);
+
+    // Some VMs reserve header words in an array
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    public GrowthPolicy {
+        if (minCapacity < 1) {
+            throw new IllegalArgumentException("Minimum capacity must be positive");
+        }
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1");
+        }
+        if (shrinkThreshold < 0 || (shrinkThreshold != 0 && shrinkThreshold <= growthFactor)) {
+            throw new IllegalArgumentException("Shrink threshold must exceed the growth factor");
+        }
+    }
+
+    /**
+     * Creates a policy whose arrays grow but never shrink on their own.
+     *
+     * @param minCapacity  the initial length of the array
+     * @param growthFactor the factor by which a full array grows, greater than 1
+     * @return the policy
+     */
+    public static GrowthPolicy growOnly(int minCapacity, double growthFactor) {
+        return new GrowthPolicy(minCapacity, growthFactor, 0);
+    }
+
+    public boolean shrinks() {
+        return shrinkThreshold != 0;
+    }
+
+    /**
+     * Returns the length an array should grow to so that it holds at least {@code required} elements.
+     */
+    int grownCapacity(int capacity, int required) {
+        if (required > MAX_ARRAY_LENGTH) {
+            throw new OutOfMemoryError("Required array length too large");
+        }
+        long grown = (long) Math.ceil(capacity * growthFactor);
+        return (int) Math.max(required, Math.min(grown, MAX_ARRAY_LENGTH));
+    }
+
+    /**
+     * Returns the length an array holding {@code size} elements should shrink to, or
+     * {@code capacity} if it should keep its length.
+     */
+    int shrunkCapacity(int capacity, int size) {
+        if (!shrinks() || capacity <= minCapacity || size > capacity / shrinkThreshold) {
+            return capacity;
+        }
+        return Math.max(minCapacity, Math.max(size, (int) (capacity / growthFactor)));
+    }
+}
@@ -0,0 +1,133 @@
+package blog.javamastery.datastructures.stack;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, lock-free last-in, first-out stack: a Treiber stack with an elimination array.
+ * <p>
+ * The stack is a linked list whose top is swung by a CAS. A push links its node to the
+ * current top before each attempt, and a node is never changed once that CAS publishes it.
+ * Under heavy contention most of those CASes fail, so a thread that loses one tries to meet
+ * a thread doing the opposite operation in the elimination array instead: a push parks its
+ * node in a random slot for a short while, and a pop that finds a parked node takes it. The
+ * two cancel out without ever touching the top, which turns contention into throughput.
+ * <p>
+ * {@link #size()} and {@link #peek()} are weakly consistent while other threads are active.
+ *
+ * @param <T> the type of elements held in this stack
+ */
+public class LockFreeStack<T> {
+    private static final int ELIMINATION_SLOTS = Math.max(2, Math.min(16, Runtime.getRuntime().availableProcessors()));
+
+    // How many times a parked push checks whether a pop took it before it withdraws
+    private static final int ELIMINATION_SPINS = 64;
+
+    private static final class Node<T> {
+        final T value;
+        Node<T> next;
+
+        Node(T value) {
+            this.value = value;
+        }
+    }
+
+    private final AtomicReference<Node<T>> top = new AtomicReference<>();
+    private final AtomicReferenceArray<Node<T>> eliminationSlots = new AtomicReferenceArray<>(ELIMINATION_SLOTS);
+    private final LongAdder count = new LongAdder();
+
+    public void push(T item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+
+        Node<T> node = new Node<>(item);
+        count.increment();
+        while (true) {
+            Node<T> current = top.get();
+            node.next = current;
+            if (top.compareAndSet(current, node)) {
+                return;
+            }
+            if (tryEliminatePush(node)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the top element, or null if the stack is empty.
+     */
+    public T pop() {
+        while (true) {
+            Node<T> current = top.get();
+            if (current == null) {
+                return null;
+            }
+            if (top.compareAndSet(current, current.next)) {
+                count.decrement();
+                return current.value;
+            }
+            Node<T> eliminated = tryEliminatePop();
+            if (eliminated != null) {
+                count.decrement();
+                return eliminated.value;
+            }
+        }
+    }
+
+    public T peek() {
+        Node<T> current = top.get();
+        return current == null ? null : current.value;
+    }
+
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    /**
+     * Returns the number of elements, exact only while no other thread modifies the stack.
+     */
+    public int size() {
+        return (int) Math.max(0, count.sum());
+    }
+
+    /**
+     * Parks the node in a random free slot and waits briefly for a pop to take it.
+     *
+     * @return true if a pop took the node, false if the push has to retry on the stack
+     */
+    private boolean tryEliminatePush(Node<T> node) {
+        int slot = ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS);
+        if (!eliminationSlots.compareAndSet(slot, null, node)) {
+            return false;
+        }
+        for (int spin = 0; spin < ELIMINATION_SPINS; spin++) {
+            if (eliminationSlots.get(slot) != node) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        // Withdraw the offer; failing to means a pop took it in the meantime
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    /**
+     * Takes a node parked by a concurrent push from a random slot, if there is one.
+     */
+    private Node<T> tryEliminatePop() {
+        int slot = ThreadLocalRandom.current().nextInt(ELIMINATION_SLOTS);
+        Node<T> parked = eliminationSlots.get(slot);
+        if (parked != null && eliminationSlots.compareAndSet(slot, parked, null)) {
+            return parked;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] (Size: %d)", getClass().getSimpleName(), size());
+    }
+}
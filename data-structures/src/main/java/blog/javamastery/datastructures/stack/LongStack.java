@@ -0,0 +1,214 @@
+package blog.javamastery.datastructures.stack;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A last-in, first-out stack of primitive {@code long} values.
+ * <p>
+ * Values are stored in a flat {@code long[]} that grows and shrinks under a {@link GrowthPolicy}
+ * like {@link SimpleStack}'s array, so {@code push}, {@code pop} and {@code peek} never box and
+ * allocate only when the array is resized. As a missing value cannot be {@code null},
+ * {@code pop} and {@code peek} throw on an empty stack instead.
+ */
+public class LongStack {
+    private final GrowthPolicy policy;
+    private long[] elements;
+    private int size;
+
+    // Resize counters, to make churn of the backing array visible
+    private long growCount;
+    private long shrinkCount;
+    private long copiedElements;
+
+    private class LongStackIterator implements PrimitiveIterator.OfLong {
+        private int cursor;
+
+        LongStackIterator() {
+            this.cursor = size - 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor >= 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return elements[cursor--];
+        }
+    }
+
+    public LongStack() {
+        this(GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates a stack whose backing array resizes as the given policy decides.
+     *
+     * @param policy the growth policy
+     */
+    public LongStack(GrowthPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Growth policy cannot be null");
+        }
+        this.policy = policy;
+        this.elements = new long[policy.minCapacity()];
+        this.size = 0;
+    }
+
+    public void push(long item) {
+        if (elements.length == size) {
+            resize(policy.grownCapacity(elements.length, size + 1));
+        }
+
+        elements[size++] = item;
+    }
+
+    /**
+     * Removes and returns the top value.
+     *
+     * @throws IllegalStateException if the stack is empty
+     */
+    public long pop() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Stack is empty");
+        }
+
+        var item = elements[--size];
+
+        int shrunkCapacity = policy.shrunkCapacity(elements.length, size);
+        if (shrunkCapacity < elements.length) {
+            resize(shrunkCapacity);
+        }
+
+        return item;
+    }
+
+    /**
+     * Returns the top value without removing it.
+     *
+     * @throws IllegalStateException if the stack is empty
+     */
+    public long peek() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Stack is empty");
+        }
+        return elements[size - 1];
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+        return elements[index];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    public boolean isFull() {
+        return size == elements.length;
+    }
+
+    /**
+     * Grows the backing array, if needed, so that it holds at least the given number of
+     * values without resizing again.
+     *
+     * @param minCapacity the number of values the stack should hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            resize(policy.grownCapacity(elements.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            resize(size);
+        }
+    }
+
+    public GrowthPolicy getGrowthPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns how many times the backing array was replaced by a larger one.
+     */
+    public long getGrowCount() {
+        return growCount;
+    }
+
+    /**
+     * Returns how many times the backing array was replaced by a smaller one.
+     */
+    public long getShrinkCount() {
+        return shrinkCount;
+    }
+
+    /**
+     * Returns how many values all resizes together copied.
+     */
+    public long getCopiedElements() {
+        return copiedElements;
+    }
+
+    private void resize(int newCapacity) {
+        if (newCapacity > elements.length) {
+            growCount++;
+        } else {
+            shrinkCount++;
+        }
+        copiedElements += size;
+        elements = resizeArray(elements, size, newCapacity);
+    }
+
+    private static long[] resizeArray(long[] srcArray, int oldSize, int newSize) {
+        if (newSize < oldSize) {
+            throw new IllegalArgumentException("Operation could result in data lost");
+        }
+        var tmpArray = new long[newSize];
+        System.arraycopy(srcArray, 0, tmpArray, 0, oldSize);
+        return tmpArray;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] (Size: %d) (Capacity: %d)",
+                getClass().getSimpleName(), size(), capacity());
+    }
+
+    /**
+     * Returns an iterator over the values from the top of the stack down.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongStackIterator();
+    }
+
+    /**
+     * Returns a sequential stream of the values from the top of the stack down.
+     */
+    public LongStream stream() {
+        return StreamSupport.longStream(Spliterators.spliterator(iterator(), size, Spliterator.ORDERED), false);
+    }
+}
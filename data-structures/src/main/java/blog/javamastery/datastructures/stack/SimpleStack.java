@@ -4,17 +4,21 @@ import blog.javamastery.datastructures.common.Streamable;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class SimpleStack<T> implements Iterable<T>, Streamable<T> {
-    private static final int minLength = 16;
-    private static final int growthRatio = 2;
-    private static final int shrinkThreshold = 4;
-
+    private final GrowthPolicy policy;
     private T[] elements;
     private int size;
 
+    // Resize counters, to make churn of the backing array visible
+    private long growCount;
+    private long shrinkCount;
+    private long copiedElements;
+
     private class SimpleStackIterator implements Iterator<T> {
         private int cursor;
 
@@ -37,13 +41,26 @@ public class SimpleStack<T> implements Iterable<T>, Streamable<T> {
     }
 
     public SimpleStack() {
-        this.elements = createArray(minLength);
+        this(GrowthPolicy.DEFAULT);
+    }
+
+    /**
+     * Creates a stack whose backing array resizes as the given policy decides.
+     *
+     * @param policy the growth policy
+     */
+    public SimpleStack(GrowthPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Growth policy cannot be null");
+        }
+        this.policy = policy;
+        this.elements = createArray(policy.minCapacity());
         this.size = 0;
     }
 
     public void push(T item) {
         if (elements.length == size) {
-            elements = resizeArray(elements, size, size * growthRatio);
+            resize(policy.grownCapacity(elements.length, size + 1));
         }
 
         elements[size++] = item;
@@ -57,8 +74,9 @@ public class SimpleStack<T> implements Iterable<T>, Streamable<T> {
         var item = elements[--size];
         elements[size] = null;
 
-        if (size <= elements.length / shrinkThreshold && elements.length > minLength) {
-            elements = resizeArray(elements, size, elements.length / growthRatio);
+        int shrunkCapacity = policy.shrunkCapacity(elements.length, size);
+        if (shrunkCapacity < elements.length) {
+            resize(shrunkCapacity);
         }
 
         return item;
@@ -94,6 +112,62 @@ public class SimpleStack<T> implements Iterable<T>, Streamable<T> {
         return size == elements.length;
     }
 
+    /**
+     * Grows the backing array, if needed, so that it holds at least the given number of
+     * elements without resizing again.
+     *
+     * @param minCapacity the number of elements the stack should hold
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            resize(policy.grownCapacity(elements.length, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the current size.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            resize(size);
+        }
+    }
+
+    public GrowthPolicy getGrowthPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns how many times the backing array was replaced by a larger one.
+     */
+    public long getGrowCount() {
+        return growCount;
+    }
+
+    /**
+     * Returns how many times the backing array was replaced by a smaller one.
+     */
+    public long getShrinkCount() {
+        return shrinkCount;
+    }
+
+    /**
+     * Returns how many elements all resizes together copied.
+     */
+    public long getCopiedElements() {
+        return copiedElements;
+    }
+
+    private void resize(int newCapacity) {
+        if (newCapacity > elements.length) {
+            growCount++;
+        } else {
+            shrinkCount++;
+        }
+        copiedElements += size;
+        elements = resizeArray(elements, size, newCapacity);
+    }
+
     private T[] resizeArray(T[] srcArray, int oldSize, int newSize) {
         if (newSize < oldSize) {
             throw new IllegalArgumentException("Operation could result in data lost");
@@ -119,8 +193,74 @@ public class SimpleStack<T> implements Iterable<T>, Streamable<T> {
         return new SimpleStackIterator();
     }
 
+    /**
+     * Returns a spliterator over the elements from the top of the stack down. It knows its
+     * exact size and splits by halving the index range, so parallel streams hand each worker
+     * a contiguous part of the array.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayRangeSpliterator<>(elements, 0, size);
+    }
+
     @Override
     public Stream<T> stream() {
         return StreamSupport.stream(spliterator(), false);
     }
+
+    /**
+     * Spliterator over the slots [origin, fence) of an array, from the highest index down.
+     */
+    private static final class ArrayRangeSpliterator<T> implements Spliterator<T> {
+        private final T[] array;
+        private final int origin;
+        private int fence;
+
+        ArrayRangeSpliterator(T[] array, int origin, int fence) {
+            this.array = array;
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (mid <= origin) {
+                return null;
+            }
+
+            // The upper slots come first in encounter order, so they form the prefix
+            var prefix = new ArrayRangeSpliterator<>(array, mid, fence);
+            fence = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (fence <= origin) {
+                return false;
+            }
+            action.accept(array[--fence]);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] elements = array;
+            for (int i = fence - 1; i >= origin; i--) {
+                action.accept(elements[i]);
+            }
+            fence = origin;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package blog.javamastery.datastructures.tree;
+
+/**
+ * A binary search tree that keeps the heights of the two subtrees of every node
+ * within one of each other, rotating after each insertion and deletion. Its height
+ * never exceeds about 1.44 log n, so lookups stay O(log n) even for sorted input.
+ *
+ * @param <T> the type of values stored in the tree
+ */
+public class AvlTree<T extends Comparable<T>> extends BinarySearchTree<T> {
+
+    private static final class AvlNode<T> extends Node<T> {
+        int height;
+
+        AvlNode(T value) {
+            super(value);
+        }
+    }
+
+    @Override
+    public void insert(T value) {
+        root = insertRec(root, value);
+    }
+
+    @Override
+    public void delete(T value) {
+        root = deleteRec(root, value);
+    }
+
+    /**
+     * Does nothing: the AVL invariant already bounds the height by O(log n).
+     */
+    @Override
+    public void rebalance() {
+    }
+
+    private Node<T> insertRec(Node<T> node, T value) {
+        if (node == null) {
+            size++;
+            return new AvlNode<>(value);
+        }
+
+        int comparison = value.compareTo(node.value);
+        if (comparison < 0) {
+            int sizeBefore = size;
+            node.left = insertRec(node.left, value);
+            node.leftCount += size - sizeBefore;
+        } else if (comparison > 0) {
+            node.right = insertRec(node.right, value);
+        } else {
+            return node;
+        }
+
+        return balance(node);
+    }
+
+    private Node<T> deleteRec(Node<T> node, T value) {
+        if (node == null) {
+            return null;
+        }
+
+        int comparison = value.compareTo(node.value);
+        if (comparison < 0) {
+            int sizeBefore = size;
+            node.left = deleteRec(node.left, value);
+            node.leftCount += size - sizeBefore;
+        } else if (comparison > 0) {
+            node.right = deleteRec(node.right, value);
+        } else {
+            if (node.left == null) {
+                size--;
+                return node.right;
+            } else if (node.right == null) {
+                size--;
+                return node.left;
+            }
+
+            // Replace with the successor, then delete the successor from the right subtree
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node.right = deleteRec(node.right, successor.value);
+        }
+
+        return balance(node);
+    }
+
+    private static int nodeHeight(Node<?> node) {
+        return node == null ? -1 : ((AvlNode<?>) node).height;
+    }
+
+    private static void updateHeight(Node<?> node) {
+        ((AvlNode<?>) node).height = 1 + Math.max(nodeHeight(node.left), nodeHeight(node.right));
+    }
+
+    private Node<T> balance(Node<T> node) {
+        updateHeight(node);
+        int balance = nodeHeight(node.left) - nodeHeight(node.right);
+
+        if (balance > 1) {
+            // Left-right case: turn it into a left-left case first
+            if (nodeHeight(node.left.left) < nodeHeight(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            // Right-left case: turn it into a right-right case first
+            if (nodeHeight(node.right.right) < nodeHeight(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        pivot.leftCount += node.leftCount + 1;
+        node.right = pivot.left;
+        pivot.left = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.leftCount -= pivot.leftCount + 1;
+        node.left = pivot.right;
+        pivot.right = node;
+        updateHeight(node);
+        updateHeight(pivot);
+        return pivot;
+    }
+}
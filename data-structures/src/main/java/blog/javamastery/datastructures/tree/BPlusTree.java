@@ -0,0 +1,703 @@
+package blog.javamastery.datastructures.tree;
+
+import blog.javamastery.datastructures.common.Streamable;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A B+ tree: an ordered set whose nodes hold many sorted values each. Internal nodes
+ * only route searches; all values live in the leaves, which are linked into a list
+ * in sorted order. Compared to a {@link BinarySearchTree}, a lookup touches a few
+ * wide nodes instead of many small ones, and range scans walk the leaf list
+ * sequentially, which suits CPU caches far better.
+ * <p>
+ * The order is the maximum number of children of an internal node; nodes hold at
+ * most {@code order - 1} values and, except for the root, at least half as many.
+ * Every operation takes O(log n) node visits and no recursion.
+ *
+ * @param <T> the type of values stored in the tree
+ */
+public class BPlusTree<T extends Comparable<T>> implements Iterable<T>, Streamable<T> {
+    private static final int DEFAULT_ORDER = 64;
+
+    private abstract static class Node {
+        // Sorted values; one slot of slack holds the overflowing value before a split
+        final Object[] keys;
+        int count;
+
+        Node(int capacity) {
+            this.keys = new Object[capacity];
+        }
+    }
+
+    private static final class LeafNode extends Node {
+        LeafNode prev;
+        LeafNode next;
+
+        LeafNode(int capacity) {
+            super(capacity);
+        }
+    }
+
+    /**
+     * Routing node: {@code keys[i]} is the smallest value reachable through {@code children[i + 1]}.
+     */
+    private static final class InternalNode extends Node {
+        final Node[] children;
+
+        InternalNode(int capacity) {
+            super(capacity);
+            this.children = new Node[capacity + 1];
+        }
+    }
+
+    private final int order;
+    private final int maxKeys;
+    private final int minKeys;
+
+    private Node root;
+    private int size;
+    private int height = -1;
+
+    public BPlusTree() {
+        this(DEFAULT_ORDER);
+    }
+
+    /**
+     * Creates an empty tree with the given fan-out.
+     *
+     * @param order the maximum number of children of an internal node, at least 3
+     */
+    public BPlusTree(int order) {
+        if (order < 3) {
+            throw new IllegalArgumentException("Order must be at least 3");
+        }
+        this.order = order;
+        this.maxKeys = order - 1;
+        this.minKeys = maxKeys / 2;
+    }
+
+    /**
+     * Builds a tree from strictly increasing values in O(n), filling the nodes
+     * bottom-up instead of inserting one value at a time.
+     *
+     * @param sorted the values in strictly increasing order
+     * @param order  the maximum number of children of an internal node, at least 3
+     * @param <T>    the type of values
+     * @return a tree holding the given values
+     * @throws IllegalArgumentException if the values are not strictly increasing
+     */
+    public static <T extends Comparable<T>> BPlusTree<T> fromSorted(List<T> sorted, int order) {
+        BPlusTree<T> tree = new BPlusTree<>(order);
+        int n = sorted.size();
+        if (n == 0) {
+            return tree;
+        }
+        for (int i = 1; i < n; i++) {
+            if (sorted.get(i - 1).compareTo(sorted.get(i)) >= 0) {
+                throw new IllegalArgumentException("Values must be strictly increasing");
+            }
+        }
+
+        // Leaves: spread the values evenly, so every leaf is at least half full
+        int leafCount = ceilDiv(n, tree.maxKeys);
+        Node[] level = new Node[leafCount];
+        Object[] firstKeys = new Object[leafCount];
+        LeafNode previous = null;
+        int index = 0;
+        for (int leaf = 0; leaf < leafCount; leaf++) {
+            LeafNode node = tree.newLeaf();
+            int take = (n - index) / (leafCount - leaf);
+            for (int i = 0; i < take; i++) {
+                node.keys[i] = sorted.get(index++);
+            }
+            node.count = take;
+            node.prev = previous;
+            if (previous != null) {
+                previous.next = node;
+            }
+            previous = node;
+            level[leaf] = node;
+            firstKeys[leaf] = node.keys[0];
+        }
+        tree.height = 0;
+
+        // Internal levels: group up to `order` children per node until one node remains
+        while (level.length > 1) {
+            int parentCount = ceilDiv(level.length, order);
+            Node[] parents = new Node[parentCount];
+            Object[] parentFirstKeys = new Object[parentCount];
+            int child = 0;
+            for (int parent = 0; parent < parentCount; parent++) {
+                InternalNode node = tree.newInternal();
+                int take = (level.length - child) / (parentCount - parent);
+                parentFirstKeys[parent] = firstKeys[child];
+                for (int i = 0; i < take; i++) {
+                    node.children[i] = level[child];
+                    if (i > 0) {
+                        node.keys[i - 1] = firstKeys[child];
+                    }
+                    child++;
+                }
+                node.count = take - 1;
+                parents[parent] = node;
+            }
+            level = parents;
+            firstKeys = parentFirstKeys;
+            tree.height++;
+        }
+
+        tree.root = level[0];
+        tree.size = n;
+        return tree;
+    }
+
+    public static <T extends Comparable<T>> BPlusTree<T> fromSorted(List<T> sorted) {
+        return fromSorted(sorted, DEFAULT_ORDER);
+    }
+
+    public void insert(T value) {
+        if (root == null) {
+            LeafNode leaf = newLeaf();
+            leaf.keys[0] = value;
+            leaf.count = 1;
+            root = leaf;
+            height = 0;
+            size = 1;
+            return;
+        }
+
+        InternalNode[] path = new InternalNode[height];
+        int[] childIndexes = new int[height];
+        LeafNode leaf = descend(value, path, childIndexes);
+
+        int position = binarySearch(leaf, value);
+        if (position >= 0) {
+            return;
+        }
+        insertAt(leaf, -position - 1, value);
+        size++;
+        if (leaf.count <= maxKeys) {
+            return;
+        }
+
+        // Split the overflowing leaf and push separators up as long as nodes overflow
+        Node right = splitLeaf(leaf);
+        Object separator = ((LeafNode) right).keys[0];
+        for (int level = height - 1; level >= 0; level--) {
+            InternalNode parent = path[level];
+            int index = childIndexes[level];
+            insertAt(parent, index, separator);
+            System.arraycopy(parent.children, index + 1, parent.children, index + 2, parent.count - index - 1);
+            parent.children[index + 1] = right;
+            if (parent.count <= maxKeys) {
+                return;
+            }
+            separator = parent.keys[parent.count / 2];
+            right = splitInternal(parent);
+        }
+
+        // The root itself split
+        InternalNode newRoot = newInternal();
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = right;
+        newRoot.count = 1;
+        root = newRoot;
+        height++;
+    }
+
+    public boolean contains(T value) {
+        if (root == null) {
+            return false;
+        }
+        return binarySearch(findLeaf(value), value) >= 0;
+    }
+
+    public void delete(T value) {
+        if (root == null) {
+            return;
+        }
+
+        InternalNode[] path = new InternalNode[height];
+        int[] childIndexes = new int[height];
+        LeafNode leaf = descend(value, path, childIndexes);
+
+        int position = binarySearch(leaf, value);
+        if (position < 0) {
+            return;
+        }
+        removeAt(leaf, position);
+        size--;
+
+        Node node = leaf;
+        for (int level = height - 1; level >= 0 && node.count < minKeys; level--) {
+            InternalNode parent = path[level];
+            int index = childIndexes[level];
+            if (node instanceof LeafNode underfull) {
+                rebalanceLeaf(parent, index, underfull);
+            } else {
+                rebalanceInternal(parent, index, (InternalNode) node);
+            }
+            node = parent;
+        }
+
+        // Shrink from the top: an empty leaf root or a root with a single child goes away
+        if (root.count == 0) {
+            if (root instanceof InternalNode internal) {
+                root = internal.children[0];
+                height--;
+            } else {
+                root = null;
+                height = -1;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of edges from the root to the leaves, or -1 for an empty tree.
+     * All leaves are at the same depth.
+     */
+    public int height() {
+        return height;
+    }
+
+    public int getOrder() {
+        return order;
+    }
+
+    public T min() {
+        if (root == null) {
+            throw new IllegalStateException("Tree is empty");
+        }
+        return key(firstLeaf(), 0);
+    }
+
+    public T max() {
+        if (root == null) {
+            throw new IllegalStateException("Tree is empty");
+        }
+        Node node = root;
+        while (node instanceof InternalNode internal) {
+            node = internal.children[internal.count];
+        }
+        return key(node, node.count - 1);
+    }
+
+    /**
+     * Checks the structural invariants: sorted nodes within their separators, the fill
+     * bounds, leaves all at the same depth, and a leaf list that visits every value in order.
+     */
+    public boolean isValid() {
+        if (root == null) {
+            return size == 0;
+        }
+        int[] counted = new int[1];
+        if (!isValidNode(root, null, null, 0, counted) || counted[0] != size) {
+            return false;
+        }
+
+        int listed = 0;
+        T previous = null;
+        for (LeafNode leaf = firstLeaf(); leaf != null; leaf = leaf.next) {
+            if (leaf.next != null && leaf.next.prev != leaf) {
+                return false;
+            }
+            for (int i = 0; i < leaf.count; i++) {
+                T value = key(leaf, i);
+                if (previous != null && previous.compareTo(value) >= 0) {
+                    return false;
+                }
+                previous = value;
+                listed++;
+            }
+        }
+        return listed == size;
+    }
+
+    private boolean isValidNode(Node node, T low, T high, int depth, int[] counted) {
+        if ((node != root && node.count < minKeys) || node.count > maxKeys) {
+            return false;
+        }
+        for (int i = 0; i < node.count; i++) {
+            T value = key(node, i);
+            if ((i > 0 && key(node, i - 1).compareTo(value) >= 0)
+                    || (low != null && value.compareTo(low) < 0)
+                    || (high != null && value.compareTo(high) >= 0)) {
+                return false;
+            }
+        }
+        if (node instanceof LeafNode) {
+            counted[0] += node.count;
+            return depth == height;
+        }
+        InternalNode internal = (InternalNode) node;
+        for (int i = 0; i <= internal.count; i++) {
+            T childLow = i == 0 ? low : key(internal, i - 1);
+            T childHigh = i == internal.count ? high : key(internal, i);
+            if (!isValidNode(internal.children[i], childLow, childHigh, depth + 1, counted)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the greatest value less than or equal to the given one.
+     *
+     * @param value the value to search for
+     * @return the greatest value not above the given one, or null if there is none
+     */
+    public T floor(T value) {
+        return below(value, true);
+    }
+
+    /**
+     * Returns the smallest value greater than or equal to the given one.
+     *
+     * @param value the value to search for
+     * @return the smallest value not below the given one, or null if there is none
+     */
+    public T ceiling(T value) {
+        return above(value, true);
+    }
+
+    /**
+     * Returns the smallest value strictly greater than the given one.
+     *
+     * @param value the value to search for
+     * @return the smallest value above the given one, or null if there is none
+     */
+    public T higher(T value) {
+        return above(value, false);
+    }
+
+    /**
+     * Returns the greatest value strictly less than the given one.
+     *
+     * @param value the value to search for
+     * @return the greatest value below the given one, or null if there is none
+     */
+    public T lower(T value) {
+        return below(value, false);
+    }
+
+    /**
+     * Returns a lazy, sorted stream of the values in {@code [from, to)}. It finds the
+     * first leaf in O(log n) and then walks the leaf list.
+     *
+     * @param from the lowest value to include
+     * @param to   the value at which to stop, exclusive
+     * @return a stream of the values between the bounds
+     * @throws IllegalArgumentException if a bound is null or from is greater than to
+     */
+    public Stream<T> range(T from, T to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Lower bound cannot be greater than upper bound");
+        }
+
+        LeafIterator iterator;
+        if (root == null) {
+            iterator = new LeafIterator(null, 0, to);
+        } else {
+            LeafNode leaf = findLeaf(from);
+            int position = binarySearch(leaf, from);
+            iterator = new LeafIterator(leaf, position >= 0 ? position : -position - 1, to);
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Returns an iterator that walks the leaf list in sorted order.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LeafIterator(root == null ? null : firstLeaf(), 0, null);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private class LeafIterator implements Iterator<T> {
+        private final T to;
+        private LeafNode leaf;
+        private int position;
+
+        LeafIterator(LeafNode leaf, int position, T to) {
+            this.leaf = leaf;
+            this.position = position;
+            this.to = to;
+            skipExhaustedLeaf();
+        }
+
+        private void skipExhaustedLeaf() {
+            if (leaf != null && position == leaf.count) {
+                leaf = leaf.next;
+                position = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return leaf != null && (to == null || key(leaf, position).compareTo(to) < 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T value = key(leaf, position++);
+            skipExhaustedLeaf();
+            return value;
+        }
+    }
+
+    private LeafNode newLeaf() {
+        return new LeafNode(maxKeys + 1);
+    }
+
+    private InternalNode newInternal() {
+        return new InternalNode(maxKeys + 1);
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T key(Node node, int index) {
+        return (T) node.keys[index];
+    }
+
+    /**
+     * Binary search within a node, with the same result convention as {@link Arrays#binarySearch}.
+     */
+    private int binarySearch(Node node, T value) {
+        int low = 0;
+        int high = node.count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = key(node, mid).compareTo(value);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the child of an internal node whose range contains the value.
+     */
+    private int childIndex(InternalNode node, T value) {
+        int position = binarySearch(node, value);
+        // Equal to a separator: the value is the smallest one of the child on its right
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private LeafNode findLeaf(T value) {
+        Node node = root;
+        while (node instanceof InternalNode internal) {
+            node = internal.children[childIndex(internal, value)];
+        }
+        return (LeafNode) node;
+    }
+
+    private LeafNode descend(T value, InternalNode[] path, int[] childIndexes) {
+        Node node = root;
+        for (int level = 0; level < height; level++) {
+            InternalNode internal = (InternalNode) node;
+            int index = childIndex(internal, value);
+            path[level] = internal;
+            childIndexes[level] = index;
+            node = internal.children[index];
+        }
+        return (LeafNode) node;
+    }
+
+    private LeafNode firstLeaf() {
+        Node node = root;
+        while (node instanceof InternalNode internal) {
+            node = internal.children[0];
+        }
+        return (LeafNode) node;
+    }
+
+    private T below(T value, boolean inclusive) {
+        if (root == null) {
+            return null;
+        }
+        LeafNode leaf = findLeaf(value);
+        int position = binarySearch(leaf, value);
+        int index = position >= 0 ? (inclusive ? position : position - 1) : -position - 2;
+        if (index >= 0) {
+            return key(leaf, index);
+        }
+        return leaf.prev == null ? null : key(leaf.prev, leaf.prev.count - 1);
+    }
+
+    private T above(T value, boolean inclusive) {
+        if (root == null) {
+            return null;
+        }
+        LeafNode leaf = findLeaf(value);
+        int position = binarySearch(leaf, value);
+        int index = position >= 0 ? (inclusive ? position : position + 1) : -position - 1;
+        if (index < leaf.count) {
+            return key(leaf, index);
+        }
+        return leaf.next == null ? null : key(leaf.next, 0);
+    }
+
+    private static void insertAt(Node node, int index, Object key) {
+        System.arraycopy(node.keys, index, node.keys, index + 1, node.count - index);
+        node.keys[index] = key;
+        node.count++;
+    }
+
+    private static void removeAt(Node node, int index) {
+        System.arraycopy(node.keys, index + 1, node.keys, index, node.count - index - 1);
+        node.keys[--node.count] = null;
+    }
+
+    private LeafNode splitLeaf(LeafNode leaf) {
+        LeafNode right = newLeaf();
+        int keep = leaf.count / 2;
+        right.count = leaf.count - keep;
+        System.arraycopy(leaf.keys, keep, right.keys, 0, right.count);
+        Arrays.fill(leaf.keys, keep, leaf.count, null);
+        leaf.count = keep;
+
+        right.next = leaf.next;
+        right.prev = leaf;
+        if (leaf.next != null) {
+            leaf.next.prev = right;
+        }
+        leaf.next = right;
+        return right;
+    }
+
+    /**
+     * Splits an internal node around its middle key, which the caller moves up to the parent.
+     */
+    private InternalNode splitInternal(InternalNode node) {
+        InternalNode right = newInternal();
+        int middle = node.count / 2;
+        right.count = node.count - middle - 1;
+        System.arraycopy(node.keys, middle + 1, right.keys, 0, right.count);
+        System.arraycopy(node.children, middle + 1, right.children, 0, right.count + 1);
+        Arrays.fill(node.keys, middle, node.count, null);
+        Arrays.fill(node.children, middle + 1, node.count + 1, null);
+        node.count = middle;
+        return right;
+    }
+
+    /**
+     * Refills an underfull leaf from a sibling, or merges it with one.
+     */
+    private void rebalanceLeaf(InternalNode parent, int index, LeafNode leaf) {
+        LeafNode left = index > 0 ? (LeafNode) parent.children[index - 1] : null;
+        LeafNode right = index < parent.count ? (LeafNode) parent.children[index + 1] : null;
+
+        if (left != null && left.count > minKeys) {
+            insertAt(leaf, 0, left.keys[left.count - 1]);
+            removeAt(left, left.count - 1);
+            parent.keys[index - 1] = leaf.keys[0];
+        } else if (right != null && right.count > minKeys) {
+            insertAt(leaf, leaf.count, right.keys[0]);
+            removeAt(right, 0);
+            parent.keys[index] = right.keys[0];
+        } else if (left != null) {
+            mergeLeaves(left, leaf);
+            removeChild(parent, index - 1);
+        } else {
+            mergeLeaves(leaf, right);
+            removeChild(parent, index);
+        }
+    }
+
+    private static void mergeLeaves(LeafNode left, LeafNode right) {
+        System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+        left.count += right.count;
+        left.next = right.next;
+        if (right.next != null) {
+            right.next.prev = left;
+        }
+    }
+
+    /**
+     * Refills an underfull internal node through its parent from a sibling, or merges it with one.
+     */
+    private void rebalanceInternal(InternalNode parent, int index, InternalNode node) {
+        InternalNode left = index > 0 ? (InternalNode) parent.children[index - 1] : null;
+        InternalNode right = index < parent.count ? (InternalNode) parent.children[index + 1] : null;
+
+        if (left != null && left.count > minKeys) {
+            // Rotate right: the separator comes down, the left sibling's last key goes up
+            System.arraycopy(node.children, 0, node.children, 1, node.count + 1);
+            node.children[0] = left.children[left.count];
+            left.children[left.count] = null;
+            insertAt(node, 0, parent.keys[index - 1]);
+            parent.keys[index - 1] = left.keys[left.count - 1];
+            removeAt(left, left.count - 1);
+        } else if (right != null && right.count > minKeys) {
+            // Rotate left: the separator comes down, the right sibling's first key goes up
+            node.children[node.count + 1] = right.children[0];
+            insertAt(node, node.count, parent.keys[index]);
+            parent.keys[index] = right.keys[0];
+            System.arraycopy(right.children, 1, right.children, 0, right.count);
+            right.children[right.count] = null;
+            removeAt(right, 0);
+        } else if (left != null) {
+            mergeInternal(left, parent.keys[index - 1], node);
+            removeChild(parent, index - 1);
+        } else {
+            mergeInternal(node, parent.keys[index], right);
+            removeChild(parent, index);
+        }
+    }
+
+    private static void mergeInternal(InternalNode left, Object separator, InternalNode right) {
+        left.keys[left.count] = separator;
+        System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+        System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+        left.count += right.count + 1;
+    }
+
+    /**
+     * Removes the separator at the given index together with the child to its right,
+     * after that child was merged into its left neighbour.
+     */
+    private static void removeChild(InternalNode parent, int keyIndex) {
+        System.arraycopy(parent.children, keyIndex + 2, parent.children, keyIndex + 1, parent.count - keyIndex - 1);
+        parent.children[parent.count] = null;
+        removeAt(parent, keyIndex);
+    }
+}
@@ -1,62 +1,323 @@
 package blog.javamastery.datastructures.tree;
 
+import blog.javamastery.datastructures.common.Streamable;
+
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public class BinarySearchTree<T extends Comparable<T>> {
+/**
+ * An unbalanced binary search tree. Values are kept in sorted order and duplicates are ignored.
+ * <p>
+ * Balanced variants such as {@link RedBlackTree} and {@link AvlTree} extend this class and
+ * override {@link #insert} and {@link #delete}; all queries work on any of them.
+ * <p>
+ * No operation recurses deeper than O(log n), so degenerate trees built from sorted input
+ * cannot overflow the stack. Sorted snapshots are best loaded with {@link #fromSorted(List)},
+ * which builds a perfectly balanced tree in O(n), and {@link #rebalance()} restores that
+ * shape after skewed updates. Values larger than the current maximum are linked in O(1),
+ * which keeps loading ascending ids linear even though the tree degenerates.
+ * <p>
+ * Every node counts the nodes of its left subtree, so {@link #select} and {@link #rank}
+ * answer order-statistic queries in O(height) and {@link #size()} is O(1).
+ *
+ * @param <T> the type of values stored in the tree
+ */
+public class BinarySearchTree<T extends Comparable<T>> implements Iterable<T>, Streamable<T> {
     public enum TraversalOrder {
         INORDER,
         PREORDER,
         POSTORDER
     }
 
-    private Node root;
+    protected Node<T> root;
+
+    // Number of values in the tree, maintained by every insertion and deletion
+    protected int size;
 
-    private class Node {
+    // Node holding the largest value for the append fast path of insert, null when unknown
+    private Node<T> rightmost;
+
+    /**
+     * Tree node. Balanced variants extend it with their own bookkeeping.
+     */
+    protected static class Node<T> {
         T value;
-        Node left;
-        Node right;
+        Node<T> left;
+        Node<T> right;
+
+        // Number of nodes in the left subtree, which makes this node's rank local knowledge
+        int leftCount;
 
         Node(T value) {
             this.value = value;
         }
     }
 
+    /**
+     * Builds a perfectly balanced tree from strictly increasing values in O(n), instead
+     * of the degenerate list that inserting them one at a time produces.
+     *
+     * @param sorted the values in strictly increasing order
+     * @param <T>    the type of values
+     * @return a tree of height floor(log2 n) holding the given values
+     * @throws IllegalArgumentException if the values are not strictly increasing
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> fromSorted(List<T> sorted) {
+        List<Node<T>> nodes = new ArrayList<>(sorted.size());
+        T previous = null;
+        for (T value : sorted) {
+            if (previous != null && previous.compareTo(value) >= 0) {
+                throw new IllegalArgumentException("Values must be strictly increasing");
+            }
+            nodes.add(new Node<>(value));
+            previous = value;
+        }
+
+        BinarySearchTree<T> tree = new BinarySearchTree<>();
+        tree.relink(nodes);
+        return tree;
+    }
+
+    /**
+     * Builds a perfectly balanced tree from a strictly increasing array in O(n).
+     *
+     * @param sorted the values in strictly increasing order
+     * @param <T>    the type of values
+     * @return a tree of height floor(log2 n) holding the given values
+     * @throws IllegalArgumentException if the values are not strictly increasing
+     */
+    public static <T extends Comparable<T>> BinarySearchTree<T> fromSorted(T[] sorted) {
+        return fromSorted(Arrays.asList(sorted));
+    }
+
     public void insert(T value) {
-        root = insertRec(root, value);
+        if (root == null) {
+            root = new Node<>(value);
+            rightmost = root;
+            size++;
+            return;
+        }
+
+        // Appending beyond the maximum needs no search, and no left subtree grows
+        Node<T> last = rightmostNode();
+        if (value.compareTo(last.value) > 0) {
+            last.right = new Node<>(value);
+            rightmost = last.right;
+            size++;
+            return;
+        }
+
+        Node<T> current = root;
+        while (true) {
+            int comparison = value.compareTo(current.value);
+            if (comparison == 0) {
+                // Undo the counts raised on the way down
+                adjustLeftCounts(value, current, -1);
+                return;
+            }
+            if (comparison < 0) {
+                current.leftCount++;
+            }
+
+            Node<T> next = comparison < 0 ? current.left : current.right;
+            if (next == null) {
+                Node<T> node = new Node<>(value);
+                if (comparison < 0) {
+                    current.left = node;
+                } else {
+                    current.right = node;
+                }
+                size++;
+                return;
+            }
+            current = next;
+        }
     }
 
     public boolean contains(T value) {
-        return containsRec(root, value);
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = value.compareTo(current.value);
+            if (comparison == 0) {
+                return true;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return false;
     }
 
     public void delete(T value) {
-        root = deleteRec(root, value);
+        Node<T> parent = null;
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = value.compareTo(node.value);
+            if (comparison == 0) {
+                break;
+            }
+            parent = node;
+            node = comparison < 0 ? node.left : node.right;
+        }
+        if (node == null) {
+            return;
+        }
+        adjustLeftCounts(value, node, -1);
+        size--;
+
+        // The maximum may have moved; it is looked up again when needed
+        rightmost = null;
+
+        // Case 3: two children
+        // Copy the smallest value of the right subtree (successor) and delete that node instead
+        if (node.left != null && node.right != null) {
+            Node<T> successorParent = node;
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successorParent = successor;
+                successor.leftCount--;
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            parent = successorParent;
+            node = successor;
+        }
+
+        // Case 1 & 2: no child or one child
+        Node<T> child = node.left != null ? node.left : node.right;
+        if (parent == null) {
+            root = child;
+        } else if (parent.left == node) {
+            parent.left = child;
+        } else {
+            parent.right = child;
+        }
+    }
+
+    /**
+     * Rebuilds the tree into a perfectly balanced shape in O(n), reusing its nodes.
+     * Useful after sorted or otherwise skewed updates have degenerated it. The
+     * self-balancing variants override this to do nothing.
+     */
+    public void rebalance() {
+        List<Node<T>> nodes = new ArrayList<>(size);
+        Deque<Node<T>> path = new ArrayDeque<>();
+        Node<T> current = root;
+        while (current != null || !path.isEmpty()) {
+            while (current != null) {
+                path.push(current);
+                current = current.left;
+            }
+            current = path.pop();
+            nodes.add(current);
+            current = current.right;
+        }
+        relink(nodes);
     }
 
     public List<T> traverse(TraversalOrder order) {
         var result = new ArrayList<T>();
         switch (order) {
-            case INORDER -> traverseInOrder(root, result);
-            case PREORDER -> traversePreOrder(root, result);
-            case POSTORDER -> traversePostOrder(root, result);
+            case INORDER -> forEach(result::add);
+            case PREORDER -> traversePreOrder(result);
+            case POSTORDER -> traversePostOrder(result);
         }
         return result;
     }
 
     public int size() {
-        return sizeRec(root);
+        return size;
     }
 
+    /**
+     * Returns the k-th smallest value, counting from zero. Takes O(height) steps,
+     * so O(log n) on the balanced variants.
+     *
+     * @param k the number of smaller values in the tree
+     * @return the value of rank k
+     * @throws IndexOutOfBoundsException if k is negative or not less than the size
+     */
+    public T select(int k) {
+        if (k < 0 || k >= size) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+
+        Node<T> current = root;
+        while (true) {
+            if (k < current.leftCount) {
+                current = current.left;
+            } else if (k == current.leftCount) {
+                return current.value;
+            } else {
+                k -= current.leftCount + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values in the tree that are smaller than the given one,
+     * whether or not the value itself is present. Takes O(height) steps.
+     *
+     * @param value the value to rank
+     * @return the number of smaller values
+     */
+    public int rank(T value) {
+        int rank = 0;
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = value.compareTo(current.value);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                rank += current.leftCount + 1;
+                current = current.right;
+            } else {
+                return rank + current.leftCount;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the number of edges on the longest path from the root to a leaf, or -1
+     * for an empty tree. Counts the levels breadth-first.
+     */
     public int height() {
-        return heightRec(root);
+        if (root == null) {
+            return -1; // Empty tree
+        }
+
+        Deque<Node<T>> level = new ArrayDeque<>();
+        level.add(root);
+        int height = -1;
+        while (!level.isEmpty()) {
+            height++;
+            for (int remaining = level.size(); remaining > 0; remaining--) {
+                Node<T> node = level.poll();
+                if (node.left != null) {
+                    level.add(node.left);
+                }
+                if (node.right != null) {
+                    level.add(node.right);
+                }
+            }
+        }
+        return height;
     }
 
     public T min() {
         if (root == null) {
             throw new IllegalStateException("Tree is empty");
         }
-        Node current = root;
+        Node<T> current = root;
         while (current.left != null) {
             current = current.left;
         }
@@ -67,131 +328,271 @@ public class BinarySearchTree<T extends Comparable<T>> {
         if (root == null) {
             throw new IllegalStateException("Tree is empty");
         }
-        Node current = root;
+        Node<T> current = root;
         while (current.right != null) {
             current = current.right;
         }
         return current.value;
     }
 
+    /**
+     * Checks that an in-order walk yields strictly increasing values.
+     */
     public boolean isValidBST() {
-        return isValidBST(root, null, null);
+        T previous = null;
+        for (T value : this) {
+            if (previous != null && value.compareTo(previous) <= 0) {
+                return false;
+            }
+            previous = value;
+        }
+        return true;
     }
 
-    private Node insertRec(Node node, T value) {
-        if (node == null) {
-            return new Node(value);
-        }
+    /**
+     * Returns the greatest value less than or equal to the given one.
+     *
+     * @param value the value to search for
+     * @return the greatest value not above the given one, or null if there is none
+     */
+    public T floor(T value) {
+        return closest(value, true, true);
+    }
 
-        int comparison = value.compareTo(node.value);
-        if (comparison < 0) {
-            node.left = insertRec(node.left, value);
-        } else if (comparison > 0) {
-            node.right = insertRec(node.right, value);
-        }
+    /**
+     * Returns the smallest value greater than or equal to the given one.
+     *
+     * @param value the value to search for
+     * @return the smallest value not below the given one, or null if there is none
+     */
+    public T ceiling(T value) {
+        return closest(value, false, true);
+    }
 
-        return node;
+    /**
+     * Returns the smallest value strictly greater than the given one.
+     *
+     * @param value the value to search for
+     * @return the smallest value above the given one, or null if there is none
+     */
+    public T higher(T value) {
+        return closest(value, false, false);
     }
 
-    private boolean containsRec(Node node, T value) {
-        if (node == null) {
-            return false;
-        }
+    /**
+     * Returns the greatest value strictly less than the given one.
+     *
+     * @param value the value to search for
+     * @return the greatest value below the given one, or null if there is none
+     */
+    public T lower(T value) {
+        return closest(value, true, false);
+    }
 
-        int comparison = value.compareTo(node.value);
-        if (comparison == 0) {
-            return true;
+    /**
+     * Returns a lazy, sorted stream of the values in {@code [from, to)}. Subtrees outside
+     * the bounds are never visited, so consuming k values costs O(height + k).
+     *
+     * @param from the lowest value to include
+     * @param to   the value at which to stop, exclusive
+     * @return a stream of the values between the bounds
+     * @throws IllegalArgumentException if a bound is null or from is greater than to
+     */
+    public Stream<T> range(T from, T to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
         }
-        return comparison < 0
-                ? containsRec(node.left, value)
-                : containsRec(node.right, value);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Lower bound cannot be greater than upper bound");
+        }
+
+        // Both ranks take O(height), so the stream knows its size up front
+        int count = rank(to) - rank(from);
+        Spliterator<T> spliterator = Spliterators.spliterator(new InOrderIterator(from, to), count,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
     }
 
-    private Node deleteRec(Node node, T value) {
-        if (node == null) {
-            return null;
+    /**
+     * Returns a lazy in-order iterator. It holds only the path to the next
+     * value, so iterating never materializes the whole tree.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator(null, null);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * In-order iterator over the values in {@code [from, to)}; a null bound leaves that side open.
+     * The stack holds the nodes whose value and right subtree are still to be visited.
+     */
+    private class InOrderIterator implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+        private final T to;
+
+        InOrderIterator(T from, T to) {
+            this.to = to;
+
+            // Descend towards the lower bound, keeping only the nodes at or above it
+            Node<T> current = root;
+            while (current != null) {
+                if (from != null && current.value.compareTo(from) < 0) {
+                    current = current.right;
+                } else {
+                    path.push(current);
+                    current = current.left;
+                }
+            }
         }
 
-        int comparison = value.compareTo(node.value);
-        if (comparison < 0) {
-            node.left = deleteRec(node.left, value);
-        } else if (comparison > 0) {
-            node.right = deleteRec(node.right, value);
-        } else {
-            // Case 1 & 2: no child or one child
-            if (node.left == null) {
-                return node.right;
-            } else if (node.right == null) {
-                return node.left;
+        private void pushLeftPath(Node<T> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
             }
+        }
 
-            // Case 3: two children
-            // Find the smallest value in the right subtree (successor)
-            node.value = findMin(node.right);
-            // Delete the successor
-            node.right = deleteRec(node.right, node.value);
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty() && (to == null || path.peek().value.compareTo(to) < 0);
         }
-        return node;
-    }
 
-    private T findMin(Node node) {
-        T minValue = node.value;
-        while (node.left != null) {
-            minValue = node.left.value;
-            node = node.left;
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushLeftPath(node.right);
+            return node.value;
         }
-        return minValue;
     }
 
-    private int sizeRec(Node node) {
-        if (node == null) {
-            return 0;
+    /**
+     * Finds the nearest value below (or above) the given one, optionally accepting the value itself.
+     */
+    private T closest(T value, boolean below, boolean inclusive) {
+        T result = null;
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = value.compareTo(current.value);
+            if (comparison == 0 && inclusive) {
+                return current.value;
+            }
+            if (below ? comparison > 0 : comparison < 0) {
+                // A candidate; a closer one can only be further towards the value
+                result = current.value;
+                current = below ? current.right : current.left;
+            } else {
+                current = below ? current.left : current.right;
+            }
         }
-        return 1 + sizeRec(node.left) + sizeRec(node.right);
+        return result;
     }
 
-    private int heightRec(Node node) {
-        if (node == null) {
-            return -1; // Empty tree
+    /**
+     * Adds the delta to the left counts of the nodes on the path from the root to the
+     * given node at which the path turns left.
+     */
+    private void adjustLeftCounts(T value, Node<T> target, int delta) {
+        Node<T> current = root;
+        while (current != target) {
+            if (value.compareTo(current.value) < 0) {
+                current.leftCount += delta;
+                current = current.left;
+            } else {
+                current = current.right;
+            }
         }
-        return 1 + Math.max(heightRec(node.left), heightRec(node.right));
     }
 
-    private boolean isValidBST(Node node, T min, T max) {
-        if (node == null) {
-            return true;
-        }
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 
-        if ((min != null && node.value.compareTo(min) <= 0) ||
-                (max != null && node.value.compareTo(max) >= 0)) {
-            return false;
-        }
+    /**
+     * Makes the given nodes, in sorted order, the whole tree: each range is rooted at its
+     * middle node, so the tree is perfectly balanced.
+     */
+    private void relink(List<Node<T>> nodes) {
+        root = link(nodes, 0, nodes.size());
+        size = nodes.size();
+        rightmost = nodes.isEmpty() ? null : nodes.get(nodes.size() - 1);
+    }
 
-        return isValidBST(node.left, min, node.value) &&
-                isValidBST(node.right, node.value, max);
+    /**
+     * Links the nodes in {@code [from, to)} into a balanced subtree and returns its root.
+     * Recurses only O(log n) deep.
+     */
+    private static <T> Node<T> link(List<Node<T>> nodes, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = nodes.get(middle);
+        node.left = link(nodes, from, middle);
+        node.right = link(nodes, middle + 1, to);
+        node.leftCount = middle - from;
+        return node;
     }
 
-    private void traverseInOrder(Node node, List<T> result) {
-        if (node != null) {
-            traverseInOrder(node.left, result);
-            result.add(node.value);
-            traverseInOrder(node.right, result);
+    private Node<T> rightmostNode() {
+        if (rightmost == null) {
+            rightmost = root;
+            while (rightmost.right != null) {
+                rightmost = rightmost.right;
+            }
         }
+        return rightmost;
     }
 
-    private void traversePreOrder(Node node, List<T> result) {
-        if (node != null) {
+    private void traversePreOrder(List<T> result) {
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node<T> node = stack.pop();
             result.add(node.value);
-            traversePreOrder(node.left, result);
-            traversePreOrder(node.right, result);
+            // Right first, so the left subtree is visited first
+            if (node.right != null) {
+                stack.push(node.right);
+            }
+            if (node.left != null) {
+                stack.push(node.left);
+            }
         }
     }
 
-    private void traversePostOrder(Node node, List<T> result) {
-        if (node != null) {
-            traversePostOrder(node.left, result);
-            traversePostOrder(node.right, result);
-            result.add(node.value);
+    private void traversePostOrder(List<T> result) {
+        Deque<Node<T>> stack = new ArrayDeque<>();
+        Node<T> current = root;
+        Node<T> lastVisited = null;
+
+        while (current != null || !stack.isEmpty()) {
+            if (current != null) {
+                stack.push(current);
+                current = current.left;
+                continue;
+            }
+
+            Node<T> node = stack.peek();
+            // Descend right unless the right subtree is empty or has just been finished
+            if (node.right != null && node.right != lastVisited) {
+                current = node.right;
+            } else {
+                result.add(node.value);
+                lastVisited = stack.pop();
+            }
         }
     }
 }
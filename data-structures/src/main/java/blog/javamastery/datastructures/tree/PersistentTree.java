@@ -0,0 +1,332 @@
+package blog.javamastery.datastructures.tree;
+
+import blog.javamastery.datastructures.common.Streamable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable, AVL-balanced binary search tree. {@link #insert} and {@link #delete} leave
+ * the tree untouched and return a new version that copies only the O(log n) nodes on the
+ * path to the change, sharing every other subtree with the old version.
+ * <p>
+ * Each version is therefore a snapshot that costs nothing to take or keep: a writer can
+ * publish new versions through a volatile field or an {@code AtomicReference} while readers
+ * iterate whichever version they picked up. All fields are final, so a version is safely
+ * visible to any thread that obtains a reference to it.
+ *
+ * @param <T> the type of values stored in the tree
+ */
+public final class PersistentTree<T extends Comparable<T>> implements Iterable<T>, Streamable<T> {
+    private static final PersistentTree<?> EMPTY = new PersistentTree<>(null);
+
+    /**
+     * Immutable node; height and size describe the subtree rooted here.
+     */
+    private record Node<T>(T value, Node<T> left, Node<T> right, int height, int size) {
+    }
+
+    private final Node<T> root;
+
+    private PersistentTree(Node<T> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> PersistentTree<T> empty() {
+        return (PersistentTree<T>) EMPTY;
+    }
+
+    /**
+     * Returns a version that also holds the value, or this version if it is already present.
+     *
+     * @param value the value to add
+     * @return the tree with the value
+     */
+    public PersistentTree<T> insert(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        Node<T> newRoot = insert(root, value);
+        return newRoot == root ? this : new PersistentTree<>(newRoot);
+    }
+
+    /**
+     * Returns a version without the value, or this version if it is absent.
+     *
+     * @param value the value to remove
+     * @return the tree without the value
+     */
+    public PersistentTree<T> delete(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+        Node<T> newRoot = delete(root, value);
+        return newRoot == root ? this : (newRoot == null ? empty() : new PersistentTree<>(newRoot));
+    }
+
+    public boolean contains(T value) {
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = value.compareTo(current.value);
+            if (comparison == 0) {
+                return true;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the number of edges on the longest path from the root to a leaf, or -1 for an empty tree.
+     */
+    public int height() {
+        return height(root);
+    }
+
+    public T min() {
+        if (root == null) {
+            throw new IllegalStateException("Tree is empty");
+        }
+        Node<T> current = root;
+        while (current.left != null) {
+            current = current.left;
+        }
+        return current.value;
+    }
+
+    public T max() {
+        if (root == null) {
+            throw new IllegalStateException("Tree is empty");
+        }
+        Node<T> current = root;
+        while (current.right != null) {
+            current = current.right;
+        }
+        return current.value;
+    }
+
+    /**
+     * Returns the k-th smallest value, counting from zero, in O(log n).
+     *
+     * @param k the number of smaller values in the tree
+     * @return the value of rank k
+     * @throws IndexOutOfBoundsException if k is negative or not less than the size
+     */
+    public T select(int k) {
+        if (k < 0 || k >= size()) {
+            throw new IndexOutOfBoundsException("Index out of bounds");
+        }
+        Node<T> current = root;
+        while (true) {
+            int leftSize = size(current.left);
+            if (k < leftSize) {
+                current = current.left;
+            } else if (k == leftSize) {
+                return current.value;
+            } else {
+                k -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values in the tree that are smaller than the given one.
+     *
+     * @param value the value to rank
+     * @return the number of smaller values
+     */
+    public int rank(T value) {
+        int rank = 0;
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = value.compareTo(current.value);
+            if (comparison < 0) {
+                current = current.left;
+            } else if (comparison > 0) {
+                rank += size(current.left) + 1;
+                current = current.right;
+            } else {
+                return rank + size(current.left);
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns a lazy, sorted stream of the values in {@code [from, to)} of this version.
+     *
+     * @param from the lowest value to include
+     * @param to   the value at which to stop, exclusive
+     * @return a stream of the values between the bounds
+     * @throws IllegalArgumentException if a bound is null or from is greater than to
+     */
+    public Stream<T> range(T from, T to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Bounds cannot be null");
+        }
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("Lower bound cannot be greater than upper bound");
+        }
+        Spliterator<T> spliterator = Spliterators.spliterator(new InOrderIterator(from, to), rank(to) - rank(from),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                        | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Returns a lazy in-order iterator over this version, unaffected by later versions.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator(null, null);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL
+                        | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * In-order iterator over the values in {@code [from, to)}; a null bound leaves that side open.
+     */
+    private class InOrderIterator implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+        private final T to;
+
+        InOrderIterator(T from, T to) {
+            this.to = to;
+            Node<T> current = root;
+            while (current != null) {
+                if (from != null && current.value.compareTo(from) < 0) {
+                    current = current.right;
+                } else {
+                    path.push(current);
+                    current = current.left;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty() && (to == null || path.peek().value.compareTo(to) < 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            for (Node<T> current = node.right; current != null; current = current.left) {
+                path.push(current);
+            }
+            return node.value;
+        }
+    }
+
+    // Recursion is bounded by the AVL height, about 1.44 log n
+
+    private static <T extends Comparable<T>> Node<T> insert(Node<T> node, T value) {
+        if (node == null) {
+            return new Node<>(value, null, null, 0, 1);
+        }
+        int comparison = value.compareTo(node.value);
+        if (comparison < 0) {
+            Node<T> left = insert(node.left, value);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<T> right = insert(node.right, value);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+        return node;
+    }
+
+    private static <T extends Comparable<T>> Node<T> delete(Node<T> node, T value) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = value.compareTo(node.value);
+        if (comparison < 0) {
+            Node<T> left = delete(node.left, value);
+            return left == node.left ? node : balance(node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<T> right = delete(node.right, value);
+            return right == node.right ? node : balance(node.value, node.left, right);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // Replace with the successor, which is removed from the copied right subtree
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, delete(node.right, successor.value));
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? -1 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <T> Node<T> node(T value, Node<T> left, Node<T> right) {
+        return new Node<>(value, left, right, 1 + Math.max(height(left), height(right)), size(left) + size(right) + 1);
+    }
+
+    /**
+     * Builds a node from its parts, rotating if the subtrees' heights differ by two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int balance = height(left) - height(right);
+        if (balance > 1) {
+            // Left-right case: rotate the left child first
+            if (height(left.left) < height(left.right)) {
+                left = rotateLeft(left);
+            }
+            return node(left.value, left.left, node(value, left.right, right));
+        }
+        if (balance < -1) {
+            // Right-left case: rotate the right child first
+            if (height(right.right) < height(right.left)) {
+                right = rotateRight(right);
+            }
+            return node(right.value, node(value, left, right.left), right.right);
+        }
+        return node(value, left, right);
+    }
+
+    private static <T> Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        return node(pivot.value, node(node.value, node.left, pivot.left), pivot.right);
+    }
+
+    private static <T> Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        return node(pivot.value, pivot.left, node(node.value, pivot.right, node.right));
+    }
+}
@@ -0,0 +1,297 @@
+package blog.javamastery.datastructures.tree;
+
+/**
+ * A binary search tree that colors every node red or black and keeps two invariants:
+ * a red node has no red child, and every path from a node down to its leaves passes
+ * the same number of black nodes. Together they bound the height by 2 log(n + 1),
+ * so lookups stay O(log n) even for sorted input.
+ * <p>
+ * Insertion and deletion restore the invariants bottom-up through parent links,
+ * with at most three rotations per operation and no recursion.
+ *
+ * @param <T> the type of values stored in the tree
+ */
+public class RedBlackTree<T extends Comparable<T>> extends BinarySearchTree<T> {
+    private static final boolean RED = true;
+    private static final boolean BLACK = false;
+
+    private static final class RedBlackNode<T> extends Node<T> {
+        RedBlackNode<T> parent;
+        boolean color = RED;
+
+        RedBlackNode(T value, RedBlackNode<T> parent) {
+            super(value);
+            this.parent = parent;
+        }
+    }
+
+    @Override
+    public void insert(T value) {
+        RedBlackNode<T> parent = null;
+        Node<T> current = root;
+        int comparison = 0;
+
+        while (current != null) {
+            parent = (RedBlackNode<T>) current;
+            comparison = value.compareTo(current.value);
+            if (comparison < 0) {
+                current.leftCount++;
+                current = current.left;
+            } else if (comparison > 0) {
+                current = current.right;
+            } else {
+                // Undo the counts raised on the way down
+                updateAncestorCounts(parent, -1);
+                return;
+            }
+        }
+
+        size++;
+        RedBlackNode<T> node = new RedBlackNode<>(value, parent);
+        if (parent == null) {
+            root = node;
+        } else if (comparison < 0) {
+            parent.left = node;
+        } else {
+            parent.right = node;
+        }
+        fixAfterInsertion(node);
+    }
+
+    @Override
+    public void delete(T value) {
+        Node<T> current = root;
+        while (current != null) {
+            int comparison = value.compareTo(current.value);
+            if (comparison == 0) {
+                deleteNode((RedBlackNode<T>) current);
+                return;
+            }
+            current = comparison < 0 ? current.left : current.right;
+        }
+    }
+
+    /**
+     * Does nothing: the red-black invariants already bound the height by O(log n).
+     */
+    @Override
+    public void rebalance() {
+    }
+
+    private void deleteNode(RedBlackNode<T> node) {
+        // A node with two children takes the value of its successor, which is then removed instead
+        if (node.left != null && node.right != null) {
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node = (RedBlackNode<T>) successor;
+        }
+
+        // The counts describe the tree without the node from here on, even while a leaf
+        // stays linked as a placeholder during the repair
+        updateAncestorCounts(node, -1);
+        size--;
+
+        RedBlackNode<T> replacement = (RedBlackNode<T>) (node.left != null ? node.left : node.right);
+        if (replacement != null) {
+            replacement.parent = node.parent;
+            replaceChild(node, replacement);
+            node.left = null;
+            node.right = null;
+            node.parent = null;
+
+            if (node.color == BLACK) {
+                fixAfterDeletion(replacement);
+            }
+        } else if (node.parent == null) {
+            root = null;
+        } else {
+            // A leaf serves as its own phantom replacement while the tree is repaired
+            if (node.color == BLACK) {
+                fixAfterDeletion(node);
+            }
+            replaceChild(node, null);
+            node.parent = null;
+        }
+    }
+
+    /**
+     * Adds the delta to the left count of every ancestor that has the node in its left subtree.
+     */
+    private static <T> void updateAncestorCounts(RedBlackNode<T> node, int delta) {
+        for (RedBlackNode<T> child = node; child.parent != null; child = child.parent) {
+            if (child == child.parent.left) {
+                child.parent.leftCount += delta;
+            }
+        }
+    }
+
+    private void replaceChild(RedBlackNode<T> node, RedBlackNode<T> replacement) {
+        if (node.parent == null) {
+            root = replacement;
+        } else if (node == node.parent.left) {
+            node.parent.left = replacement;
+        } else {
+            node.parent.right = replacement;
+        }
+    }
+
+    private void fixAfterInsertion(RedBlackNode<T> node) {
+        while (node != root && colorOf(parentOf(node)) == RED) {
+            RedBlackNode<T> parent = parentOf(node);
+            RedBlackNode<T> grandparent = parentOf(parent);
+
+            if (parent == leftOf(grandparent)) {
+                RedBlackNode<T> uncle = rightOf(grandparent);
+                if (colorOf(uncle) == RED) {
+                    setColor(parent, BLACK);
+                    setColor(uncle, BLACK);
+                    setColor(grandparent, RED);
+                    node = grandparent;
+                } else {
+                    if (node == rightOf(parent)) {
+                        node = parent;
+                        rotateLeft(node);
+                    }
+                    setColor(parentOf(node), BLACK);
+                    setColor(parentOf(parentOf(node)), RED);
+                    rotateRight(parentOf(parentOf(node)));
+                }
+            } else {
+                RedBlackNode<T> uncle = leftOf(grandparent);
+                if (colorOf(uncle) == RED) {
+                    setColor(parent, BLACK);
+                    setColor(uncle, BLACK);
+                    setColor(grandparent, RED);
+                    node = grandparent;
+                } else {
+                    if (node == leftOf(parent)) {
+                        node = parent;
+                        rotateRight(node);
+                    }
+                    setColor(parentOf(node), BLACK);
+                    setColor(parentOf(parentOf(node)), RED);
+                    rotateLeft(parentOf(parentOf(node)));
+                }
+            }
+        }
+        setColor((RedBlackNode<T>) root, BLACK);
+    }
+
+    private void fixAfterDeletion(RedBlackNode<T> node) {
+        while (node != root && colorOf(node) == BLACK) {
+            if (node == leftOf(parentOf(node))) {
+                RedBlackNode<T> sibling = rightOf(parentOf(node));
+
+                if (colorOf(sibling) == RED) {
+                    setColor(sibling, BLACK);
+                    setColor(parentOf(node), RED);
+                    rotateLeft(parentOf(node));
+                    sibling = rightOf(parentOf(node));
+                }
+
+                if (colorOf(leftOf(sibling)) == BLACK && colorOf(rightOf(sibling)) == BLACK) {
+                    setColor(sibling, RED);
+                    node = parentOf(node);
+                } else {
+                    if (colorOf(rightOf(sibling)) == BLACK) {
+                        setColor(leftOf(sibling), BLACK);
+                        setColor(sibling, RED);
+                        rotateRight(sibling);
+                        sibling = rightOf(parentOf(node));
+                    }
+                    setColor(sibling, colorOf(parentOf(node)));
+                    setColor(parentOf(node), BLACK);
+                    setColor(rightOf(sibling), BLACK);
+                    rotateLeft(parentOf(node));
+                    node = (RedBlackNode<T>) root;
+                }
+            } else {
+                RedBlackNode<T> sibling = leftOf(parentOf(node));
+
+                if (colorOf(sibling) == RED) {
+                    setColor(sibling, BLACK);
+                    setColor(parentOf(node), RED);
+                    rotateRight(parentOf(node));
+                    sibling = leftOf(parentOf(node));
+                }
+
+                if (colorOf(rightOf(sibling)) == BLACK && colorOf(leftOf(sibling)) == BLACK) {
+                    setColor(sibling, RED);
+                    node = parentOf(node);
+                } else {
+                    if (colorOf(leftOf(sibling)) == BLACK) {
+                        setColor(rightOf(sibling), BLACK);
+                        setColor(sibling, RED);
+                        rotateLeft(sibling);
+                        sibling = leftOf(parentOf(node));
+                    }
+                    setColor(sibling, colorOf(parentOf(node)));
+                    setColor(parentOf(node), BLACK);
+                    setColor(leftOf(sibling), BLACK);
+                    rotateRight(parentOf(node));
+                    node = (RedBlackNode<T>) root;
+                }
+            }
+        }
+        setColor(node, BLACK);
+    }
+
+    private void rotateLeft(RedBlackNode<T> node) {
+        if (node == null) {
+            return;
+        }
+        RedBlackNode<T> pivot = rightOf(node);
+        pivot.leftCount += node.leftCount + 1;
+        node.right = pivot.left;
+        if (pivot.left != null) {
+            ((RedBlackNode<T>) pivot.left).parent = node;
+        }
+        pivot.parent = node.parent;
+        replaceChild(node, pivot);
+        pivot.left = node;
+        node.parent = pivot;
+    }
+
+    private void rotateRight(RedBlackNode<T> node) {
+        if (node == null) {
+            return;
+        }
+        RedBlackNode<T> pivot = leftOf(node);
+        node.leftCount -= pivot.leftCount + 1;
+        node.left = pivot.right;
+        if (pivot.right != null) {
+            ((RedBlackNode<T>) pivot.right).parent = node;
+        }
+        pivot.parent = node.parent;
+        replaceChild(node, pivot);
+        pivot.right = node;
+        node.parent = pivot;
+    }
+
+    // Null-safe accessors: missing nodes count as black leaves
+
+    private static <T> boolean colorOf(RedBlackNode<T> node) {
+        return node == null ? BLACK : node.color;
+    }
+
+    private static <T> void setColor(RedBlackNode<T> node, boolean color) {
+        if (node != null) {
+            node.color = color;
+        }
+    }
+
+    private static <T> RedBlackNode<T> parentOf(RedBlackNode<T> node) {
+        return node == null ? null : node.parent;
+    }
+
+    private static <T> RedBlackNode<T> leftOf(RedBlackNode<T> node) {
+        return node == null ? null : (RedBlackNode<T>) node.left;
+    }
+
+    private static <T> RedBlackNode<T> rightOf(RedBlackNode<T> node) {
+        return node == null ? null : (RedBlackNode<T>) node.right;
+    }
+}
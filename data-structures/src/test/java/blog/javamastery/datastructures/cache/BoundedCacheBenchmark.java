@@ -0,0 +1,67 @@
+package blog.javamastery.datastructures.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a cache lookup that loads the value on a miss, for each eviction
+ * policy, on a skewed workload where a few keys are requested far more often than the rest.
+ * The hit rate of each policy is printed at the end of the trial.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=BoundedCacheBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoundedCacheBenchmark {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final int DISTINCT_KEYS = 1_000_000;
+    private static final int WORKLOAD_LENGTH = 1 << 20;
+
+    @Param({"lru", "lfu", "windowTinyLfu"})
+    private String policy;
+
+    private Integer[] workload;
+    private BoundedCache<Integer, Integer> cache;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Approximates a Zipf distribution: key k is requested with probability ~ 1/k
+        Random random = new Random(42);
+        workload = new Integer[WORKLOAD_LENGTH];
+        for (int i = 0; i < WORKLOAD_LENGTH; i++) {
+            workload[i] = (int) Math.pow(DISTINCT_KEYS, random.nextDouble());
+        }
+
+        cache = switch (policy) {
+            case "lru" -> new BoundedCache<>(MAXIMUM_SIZE, EvictionPolicy::lru);
+            case "lfu" -> new BoundedCache<>(MAXIMUM_SIZE, EvictionPolicy::lfu);
+            default -> new BoundedCache<>(MAXIMUM_SIZE, EvictionPolicy::windowTinyLfu);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void printHitRate() {
+        System.out.printf("%n%s hit rate: %.3f%n", policy, cache.stats().hitRate());
+    }
+
+    @Benchmark
+    public Integer getOrLoad() {
+        Integer key = workload[cursor];
+        cursor = (cursor + 1) & (WORKLOAD_LENGTH - 1);
+
+        Integer value = cache.get(key);
+        if (value == null) {
+            value = key;
+            cache.put(key, value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,196 @@
+package blog.javamastery.datastructures.cache;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bounded Cache operations")
+class BoundedCacheTest {
+
+    @Test
+    @DisplayName("Cache never grows beyond its maximum size")
+    void neverGrowsBeyondMaximumSize() {
+        HashTable<Integer, Integer> cache = new BoundedCache<>(100, EvictionPolicy::windowTinyLfu);
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i);
+            assertTrue(cache.size() <= 100);
+        }
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    @DisplayName("LRU evicts the least recently used key")
+    void lruEvictsLeastRecentlyUsed() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(3);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.put("d", 4);
+
+        assertFalse(cache.containsKey("b"));
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("c"));
+        assertTrue(cache.containsKey("d"));
+    }
+
+    @Test
+    @DisplayName("LFU evicts the least frequently used key")
+    void lfuEvictsLeastFrequentlyUsed() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(3, EvictionPolicy::lfu);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        cache.put("d", 4);
+
+        assertFalse(cache.containsKey("c"));
+
+        // The newcomer has the lowest frequency, so it is the next to go
+        cache.get("b");
+        cache.put("e", 5);
+        assertFalse(cache.containsKey("d"));
+        assertTrue(cache.containsKey("a"));
+        assertTrue(cache.containsKey("b"));
+        assertTrue(cache.containsKey("e"));
+    }
+
+    @Test
+    @DisplayName("LFU admits new keys when every resident has been read")
+    void lfuAdmitsNewKeysWhenAllResidentsAreHot() {
+        List<String> evicted = new ArrayList<>();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2, EvictionPolicy::lfu,
+                (key, value) -> evicted.add(key));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.get("b");
+
+        cache.put("x", 3);
+        assertTrue(cache.containsKey("x"));
+        assertEquals(List.of("a"), evicted);
+
+        // The previous newcomer is no longer protected and has the lowest frequency
+        cache.put("y", 4);
+        assertTrue(cache.containsKey("y"));
+        assertTrue(cache.containsKey("b"));
+        assertEquals(List.of("a", "x"), evicted);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("W-TinyLFU keeps popular keys during a scan")
+    void windowTinyLfuResistsScans() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100, EvictionPolicy::windowTinyLfu);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.get(i) == null) {
+                    cache.put(i, i);
+                }
+            }
+        }
+
+        // A run of keys that are used only once, eight times the cache size
+        for (int i = 1_000; i < 1_800; i++) {
+            cache.put(i, i);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(cache.containsKey(i), "popular key " + i + " was evicted");
+        }
+    }
+
+    @Test
+    @DisplayName("LRU loses popular keys during a scan")
+    void lruDoesNotResistScans() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, i);
+            cache.get(i);
+        }
+        for (int i = 1_000; i < 1_100; i++) {
+            cache.put(i, i);
+        }
+
+        for (int i = 0; i < 50; i++) {
+            assertFalse(cache.containsKey(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Eviction listener receives every evicted entry")
+    void evictionListenerReceivesEvictedEntries() {
+        List<String> evicted = new ArrayList<>();
+        BoundedCache<String, Integer> cache = new BoundedCache<>(2, EvictionPolicy::lru,
+                (key, value) -> evicted.add(key + "=" + value));
+
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.put("d", 4);
+        cache.remove("c");
+        cache.clear();
+
+        assertEquals(List.of("a=1", "b=2"), evicted);
+        assertEquals(2, cache.stats().evictionCount());
+    }
+
+    @Test
+    @DisplayName("Stats count hits and misses")
+    void statsCountHitsAndMisses() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10, EvictionPolicy::lfu);
+        assertEquals(1.0, cache.stats().hitRate());
+
+        cache.put("a", 1);
+        cache.put("n", null);
+        cache.get("a");
+        cache.get("n");
+        cache.get("a");
+        cache.get("missing");
+
+        BoundedCache.CacheStats stats = cache.stats();
+        assertEquals(3, stats.hitCount());
+        assertEquals(1, stats.missCount());
+        assertEquals(0, stats.evictionCount());
+        assertEquals(0.75, stats.hitRate());
+    }
+
+    @Test
+    @DisplayName("Removed keys are no longer eviction candidates")
+    void removedKeysAreNotEvicted() {
+        for (BoundedCache<String, Integer> cache : List.of(
+                new BoundedCache<String, Integer>(2, EvictionPolicy::lru),
+                new BoundedCache<String, Integer>(2, EvictionPolicy::lfu),
+                new BoundedCache<String, Integer>(2, EvictionPolicy::windowTinyLfu))) {
+            cache.put("a", 1);
+            cache.put("b", 2);
+            cache.remove("a");
+            cache.put("c", 3);
+
+            assertEquals(2, cache.size());
+            assertTrue(cache.containsKey("b"));
+            assertTrue(cache.containsKey("c"));
+            assertEquals(0, cache.stats().evictionCount());
+
+            cache.clear();
+            cache.put("d", 4);
+            assertEquals(1, cache.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, Integer>(0));
+        BoundedCache<String, Integer> cache = new BoundedCache<>(1);
+        assertThrows(IllegalArgumentException.class, () -> cache.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> cache.get(null));
+    }
+}
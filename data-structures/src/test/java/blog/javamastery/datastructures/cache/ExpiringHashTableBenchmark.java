@@ -0,0 +1,45 @@
+package blog.javamastery.datastructures.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the steady-state cost of a {@code put} into an {@link ExpiringHashTable} whose
+ * entries are only ever written, so every entry is reclaimed by the timer wheel rather than
+ * by a lookup. A simulated clock moves forward one microsecond per operation, so with a
+ * one second time-to-live the table holds one to two million entries, as the wheel
+ * reclaims with the granularity of its finest buckets (about a second).
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=ExpiringHashTableBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class ExpiringHashTableBenchmark {
+
+    private long now;
+    private long next;
+    private ExpiringHashTable<Long, Long> table;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        table = new ExpiringHashTable<>(1, TimeUnit.SECONDS, () -> now, (key, value) -> {
+        });
+    }
+
+    @Benchmark
+    public Long put() {
+        now += 1_000;
+        Long key = next++;
+        return table.put(key, key);
+    }
+
+    @TearDown(Level.Trial)
+    public void printReclaimed() {
+        System.out.printf("%nlive: %d, reclaimed: %d%n", table.size(), table.getReclaimedCount());
+    }
+}
@@ -0,0 +1,166 @@
+package blog.javamastery.datastructures.cache;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Expiring Hash Table operations")
+class ExpiringHashTableTest {
+
+    private long now;
+    private List<String> expired;
+    private ExpiringHashTable<String, Integer> table;
+
+    @BeforeEach
+    void setUp() {
+        now = 1_000_000_000L;
+        expired = new ArrayList<>();
+        table = new ExpiringHashTable<>(10, TimeUnit.SECONDS, () -> now,
+                (key, value) -> expired.add(key + "=" + value));
+    }
+
+    private void advance(long amount, TimeUnit unit) {
+        now += unit.toNanos(amount);
+    }
+
+    @Test
+    @DisplayName("Entries are visible until their time-to-live passes")
+    void entriesExpireAfterTimeToLive() {
+        table.put("one", 1);
+        advance(9, TimeUnit.SECONDS);
+        assertEquals(1, table.get("one"));
+        assertTrue(table.containsKey("one"));
+
+        advance(1, TimeUnit.SECONDS);
+        assertNull(table.get("one"));
+        assertFalse(table.containsKey("one"));
+        assertEquals(List.of("one=1"), expired);
+        assertEquals(1, table.getReclaimedCount());
+    }
+
+    @Test
+    @DisplayName("Per-entry time-to-live overrides the default")
+    void perEntryTimeToLive() {
+        table.put("short", 1, 2, TimeUnit.SECONDS);
+        table.put("long", 2, 1, TimeUnit.HOURS);
+        table.put("default", 3);
+
+        advance(5, TimeUnit.SECONDS);
+        assertNull(table.get("short"));
+        assertEquals(3, table.get("default"));
+
+        advance(30, TimeUnit.MINUTES);
+        assertNull(table.get("default"));
+        assertEquals(2, table.get("long"));
+
+        advance(31, TimeUnit.MINUTES);
+        assertNull(table.get("long"));
+        assertEquals(3, table.getReclaimedCount());
+    }
+
+    @Test
+    @DisplayName("Overwriting an entry restarts its time-to-live")
+    void overwriteRestartsTimeToLive() {
+        table.put("key", 1);
+        advance(8, TimeUnit.SECONDS);
+        assertEquals(1, table.put("key", 2));
+
+        advance(8, TimeUnit.SECONDS);
+        assertEquals(2, table.get("key"));
+
+        advance(3, TimeUnit.SECONDS);
+        assertNull(table.put("key", 3));
+        assertEquals(List.of("key=2"), expired);
+    }
+
+    @Test
+    @DisplayName("Timer wheel reclaims entries that are never read again")
+    void timerWheelReclaimsUntouchedEntries() {
+        for (int i = 0; i < 1_000; i++) {
+            table.put("key" + i, i, i % 2 == 0 ? 1 : 120, TimeUnit.MINUTES);
+        }
+        assertEquals(1_000, table.size());
+
+        advance(5, TimeUnit.MINUTES);
+        table.cleanUp();
+        assertEquals(500, table.size());
+        assertEquals(500, table.getReclaimedCount());
+
+        advance(2, TimeUnit.DAYS);
+        assertEquals(0, table.size());
+        assertTrue(table.isEmpty());
+        assertEquals(1_000, expired.size());
+    }
+
+    @Test
+    @DisplayName("Entries far in the future cascade down the wheel")
+    void farFutureEntriesCascade() {
+        table.put("week", 1, 9, TimeUnit.DAYS);
+        table.put("day", 2, 30, TimeUnit.HOURS);
+
+        for (int hour = 0; hour < 24 * 9 - 1; hour++) {
+            advance(1, TimeUnit.HOURS);
+            table.cleanUp();
+        }
+        assertEquals(List.of("day=2"), expired);
+        assertEquals(1, table.size());
+
+        advance(2, TimeUnit.HOURS);
+        table.cleanUp();
+        assertEquals(List.of("day=2", "week=1"), expired);
+    }
+
+    @Test
+    @DisplayName("Removed and cleared entries are not reported as expired")
+    void removeAndClearAreNotReported() {
+        table.put("a", 1);
+        table.put("b", 2);
+        assertEquals(1, table.remove("a"));
+        table.clear();
+
+        advance(1, TimeUnit.MINUTES);
+        table.cleanUp();
+        assertTrue(expired.isEmpty());
+        assertTrue(table.isEmpty());
+        assertNull(table.remove("a"));
+    }
+
+    @Test
+    @DisplayName("Iterator skips expired entries")
+    void iteratorSkipsExpiredEntries() {
+        table.put("old", 1, 1, TimeUnit.SECONDS);
+        table.put("new", 2);
+
+        advance(500, TimeUnit.MILLISECONDS);
+        Set<String> keys = new HashSet<>();
+        for (HashTable.Entry<String, Integer> entry : table) {
+            keys.add(entry.getKey());
+        }
+        assertEquals(Set.of("old", "new"), keys);
+
+        advance(1, TimeUnit.SECONDS);
+        keys.clear();
+        for (HashTable.Entry<String, Integer> entry : table) {
+            keys.add(entry.getKey());
+        }
+        assertEquals(Set.of("new"), keys);
+    }
+
+    @Test
+    @DisplayName("Invalid arguments are rejected")
+    void invalidArgumentsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> table.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> table.get(null));
+        assertThrows(IllegalArgumentException.class, () -> table.put("key", 1, 0, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringHashTable<String, Integer>(-1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,54 @@
+package blog.javamastery.datastructures.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the same task on several threads at once, for the tests of the thread-safe structures.
+ */
+public final class ConcurrentTestSupport {
+    /**
+     * At least four threads, so that tasks interleave even on machines with fewer cores.
+     */
+    public static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private ConcurrentTestSupport() {
+    }
+
+    /**
+     * The work of one thread, given its index between 0 and {@code THREADS - 1}.
+     */
+    @FunctionalInterface
+    public interface ThreadTask {
+        void run(int threadIndex) throws Exception;
+    }
+
+    /**
+     * Runs the task on THREADS threads that start at the same time and rethrows the first failure.
+     */
+    public static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int threadIndex = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(threadIndex);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a read-mostly workload shared by all benchmark threads,
+ * comparing a {@link SimpleHashTable} behind a global lock with {@link ConcurrentHashTable}.
+ * <p>
+ * Scaling is visible by running with increasing thread counts, e.g.
+ * {@code mvn -Pbenchmark verify -Dbenchmark="ConcurrentHashTableBenchmark -t 1"}, then {@code -t 2},
+ * {@code -t 4}, ... up to the number of cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ConcurrentHashTableBenchmark {
+    private static final int KEY_SPACE = 1 << 16;
+
+    /**
+     * Percentage of operations that are writes (half puts, half removes).
+     */
+    @Param({"10", "50"})
+    private int writePercent;
+
+    private Integer[] keys;
+    private HashTable<Integer, Integer> synchronizedTable;
+    private HashTable<Integer, Integer> concurrentTable;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[KEY_SPACE];
+        synchronizedTable = new SimpleHashTable<>();
+        concurrentTable = new ConcurrentHashTable<>(KEY_SPACE, 64);
+        for (int i = 0; i < KEY_SPACE; i++) {
+            keys[i] = i;
+            synchronizedTable.put(keys[i], i);
+            concurrentTable.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Integer synchronizedSimpleHashTable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = keys[random.nextInt(KEY_SPACE)];
+        int dice = random.nextInt(100);
+        synchronized (synchronizedTable) {
+            return operate(synchronizedTable, key, dice);
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentHashTable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return operate(concurrentTable, keys[random.nextInt(KEY_SPACE)], random.nextInt(100));
+    }
+
+    private Integer operate(HashTable<Integer, Integer> table, Integer key, int dice) {
+        if (dice >= writePercent) {
+            return table.get(key);
+        }
+        return dice % 2 == 0 ? table.put(key, key) : table.remove(key);
+    }
+}
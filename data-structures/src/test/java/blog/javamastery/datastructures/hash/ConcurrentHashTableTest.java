@@ -0,0 +1,144 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static blog.javamastery.datastructures.common.ConcurrentTestSupport.THREADS;
+import static blog.javamastery.datastructures.common.ConcurrentTestSupport.runConcurrently;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Concurrent Hash Table operations")
+class ConcurrentHashTableTest extends SimpleHashTableTest {
+    private static final int KEYS_PER_THREAD = 20_000;
+
+    @Override
+    protected HashTable<String, Integer> createHashTable() {
+        return new ConcurrentHashTable<>();
+    }
+
+    @Test
+    @DisplayName("Concurrent inserts of disjoint keys should all be visible")
+    void concurrentInsertsShouldAllBeVisible() throws Exception {
+        // Tiny segments force many resizes while other threads keep writing
+        var table = new ConcurrentHashTable<Integer, Integer>(0, 4);
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                int key = thread * KEYS_PER_THREAD + i;
+                assertNull(table.put(key, key));
+            }
+        });
+
+        assertEquals(THREADS * KEYS_PER_THREAD, table.size());
+        for (int key = 0; key < THREADS * KEYS_PER_THREAD; key++) {
+            assertEquals(key, table.get(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Readers should never see a torn or missing entry while writers resize")
+    void readersShouldSeeStableEntriesDuringResize() throws Exception {
+        var table = new ConcurrentHashTable<Integer, Integer>();
+        // Keys that are never removed must stay visible to readers at all times
+        for (int key = 0; key < 1_000; key++) {
+            table.put(key, key);
+        }
+
+        runConcurrently(thread -> {
+            if (thread % 2 == 0) {
+                for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                    int key = 1_000 + thread * KEYS_PER_THREAD + i;
+                    table.put(key, key);
+                    if (i % 3 == 0) {
+                        table.remove(key);
+                    }
+                }
+            } else {
+                for (int round = 0; round < 20; round++) {
+                    for (int key = 0; key < 1_000; key++) {
+                        assertEquals(key, table.get(key));
+                    }
+                }
+            }
+        });
+
+        for (int key = 0; key < 1_000; key++) {
+            assertEquals(key, table.get(key));
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent puts and removes on shared keys should keep size consistent")
+    void concurrentPutsAndRemovesShouldKeepSizeConsistent() throws Exception {
+        var table = new ConcurrentHashTable<Integer, Integer>();
+        AtomicInteger inserted = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                int key = random.nextInt(512);
+                if (random.nextBoolean()) {
+                    if (table.put(key, thread) == null) {
+                        inserted.incrementAndGet();
+                    }
+                } else if (table.remove(key) != null) {
+                    removed.incrementAndGet();
+                }
+            }
+        });
+
+        int count = 0;
+        for (var ignored : table) {
+            count++;
+        }
+        assertEquals(inserted.get() - removed.get(), table.size());
+        assertEquals(table.size(), count);
+    }
+
+    @Test
+    @DisplayName("Iteration during concurrent writes should not fail")
+    void iterationDuringWritesShouldNotFail() throws Exception {
+        var table = new ConcurrentHashTable<Integer, Integer>();
+        for (int key = 0; key < 10_000; key++) {
+            table.put(key, key);
+        }
+
+        runConcurrently(thread -> {
+            if (thread == 0) {
+                for (int round = 0; round < 10; round++) {
+                    for (var entry : table) {
+                        assertEquals(entry.getKey(), entry.getValue());
+                    }
+                }
+            } else {
+                for (int i = 0; i < KEYS_PER_THREAD; i++) {
+                    int key = 10_000 + thread * KEYS_PER_THREAD + i;
+                    table.put(key, key);
+                    table.remove(key - 1);
+                }
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Entry setValue should write through to the table")
+    void entrySetValueShouldWriteThrough() {
+        hashTable.put("one", 1);
+
+        var entry = hashTable.iterator().next();
+        assertEquals(1, entry.setValue(10));
+        assertEquals(10, hashTable.get("one"));
+    }
+
+    @Test
+    @DisplayName("Invalid construction arguments should be rejected")
+    void invalidArgumentsShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashTable<>(-1, 4));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentHashTable<>(16, 0));
+    }
+}
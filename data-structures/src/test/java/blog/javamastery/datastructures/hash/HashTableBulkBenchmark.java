@@ -0,0 +1,69 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bulk operations of {@link SimpleHashTable}: loading through {@code putAll}
+ * against one {@code put} per entry, and sequential against parallel streams.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=HashTableBulkBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HashTableBulkBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private HashTable<Integer, Integer> source;
+
+    @Setup
+    public void setUp() {
+        source = new SimpleHashTable<>();
+        for (int i = 0; i < size; i++) {
+            source.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public HashTable<Integer, Integer> putOneByOne() {
+        HashTable<Integer, Integer> table = new SimpleHashTable<>();
+        for (var entry : source) {
+            table.put(entry.getKey(), entry.getValue());
+        }
+        return table;
+    }
+
+    @Benchmark
+    public HashTable<Integer, Integer> putAll() {
+        HashTable<Integer, Integer> table = new SimpleHashTable<>();
+        table.putAll(source);
+        return table;
+    }
+
+    @Benchmark
+    public long sequentialStreamSum() {
+        return source.stream().mapToLong(entry -> heavy(entry.getValue())).sum();
+    }
+
+    @Benchmark
+    public long parallelStreamSum() {
+        return source.parallelStream().mapToLong(entry -> heavy(entry.getValue())).sum();
+    }
+
+    // A little arithmetic per entry, so the stream is not purely memory-bound
+    private static long heavy(int value) {
+        long x = value;
+        for (int i = 0; i < 16; i++) {
+            x = x * 6364136223846793005L + 1442695040888963407L;
+        }
+        return x >>> 48;
+    }
+}
@@ -0,0 +1,115 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Simple Hash Table operations with incremental resizing")
+class IncrementalSimpleHashTableTest extends SimpleHashTableTest {
+
+    @Override
+    protected HashTable<String, Integer> createHashTable() {
+        return new SimpleHashTable<>(SimpleHashTable.ResizeMode.INCREMENTAL);
+    }
+
+    private SimpleHashTable<String, Integer> table() {
+        return (SimpleHashTable<String, Integer>) hashTable;
+    }
+
+    /**
+     * Fills the table until an incremental resize starts, returning the number of entries added.
+     */
+    private int fillUntilResizing() {
+        int count = 0;
+        while (!table().isResizing()) {
+            hashTable.put("key" + count, count);
+            count++;
+        }
+        return count;
+    }
+
+    @Test
+    @DisplayName("Lookups, size and load factor stay correct mid-migration")
+    void lookupsStayCorrectMidMigration() {
+        int count = fillUntilResizing();
+
+        assertTrue(table().isResizing());
+        assertEquals(count, hashTable.size());
+        // 13 entries spread over the 32 buckets of the new table
+        assertEquals(count / 32.0, hashTable.getLoadFactor());
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, hashTable.get("key" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Removal works for keys that have not been migrated yet")
+    void removeWorksMidMigration() {
+        int count = fillUntilResizing();
+
+        for (int i = 0; i < count; i += 2) {
+            assertEquals(i, hashTable.remove("key" + i));
+        }
+
+        assertEquals(count / 2, hashTable.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i % 2 == 0 ? null : i, hashTable.get("key" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Iterator sees every entry exactly once mid-migration")
+    void iteratorSeesEveryEntryMidMigration() {
+        int count = fillUntilResizing();
+
+        Set<String> seenKeys = new HashSet<>();
+        for (var entry : hashTable) {
+            assertTrue(seenKeys.add(entry.getKey()));
+        }
+
+        assertEquals(count, seenKeys.size());
+        assertFalse(table().isResizing());
+    }
+
+    @Test
+    @DisplayName("Migration completes after a bounded number of operations")
+    void migrationCompletes() {
+        fillUntilResizing();
+
+        // Each operation migrates several buckets, so a handful of reads drains the old table
+        for (int i = 0; i < 16 && table().isResizing(); i++) {
+            hashTable.get("key0");
+        }
+
+        assertFalse(table().isResizing());
+    }
+
+    @Test
+    @DisplayName("Updating an existing key mid-migration does not duplicate it")
+    void updateMidMigrationDoesNotDuplicate() {
+        int count = fillUntilResizing();
+
+        assertEquals(0, hashTable.put("key0", 100));
+        assertEquals(count, hashTable.size());
+        assertEquals(100, hashTable.get("key0"));
+    }
+
+    @Test
+    @DisplayName("Large tables keep every entry across repeated resizes")
+    void largeTablesKeepEveryEntry() {
+        for (int i = 0; i < 100_000; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertEquals(100_000, hashTable.size());
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(i, hashTable.get("key" + i));
+        }
+    }
+}
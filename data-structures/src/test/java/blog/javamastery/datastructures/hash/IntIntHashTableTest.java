@@ -0,0 +1,87 @@
+package blog.javamastery.datastructures.hash;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Int-Int Hash Table operations")
+class IntIntHashTableTest {
+
+    private IntIntHashTable hashTable;
+
+    @BeforeEach
+    void setUp() {
+        hashTable = new IntIntHashTable();
+    }
+
+    @Test
+    @DisplayName("Missing keys return the no-entry value")
+    void missingKeysReturnNoEntryValue() {
+        var table = new IntIntHashTable(16, -1);
+
+        assertEquals(-1, table.get(5));
+        assertEquals(-1, table.remove(5));
+        assertEquals(-1, table.put(5, 50));
+        assertEquals(99, table.getOrDefault(6, 99));
+        assertEquals(50, table.get(5));
+    }
+
+    @Test
+    @DisplayName("Zero key can be stored, updated and removed")
+    void zeroKeyCanBeStored() {
+        assertFalse(hashTable.containsKey(0));
+
+        hashTable.put(0, 10);
+        assertEquals(10, hashTable.put(0, 20));
+        assertTrue(hashTable.containsKey(0));
+        assertEquals(20, hashTable.get(0));
+        assertEquals(1, hashTable.size());
+
+        assertEquals(20, hashTable.remove(0));
+        assertFalse(hashTable.containsKey(0));
+        assertTrue(hashTable.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Random operations should match java.util.HashMap")
+    void randomOperationsShouldMatchHashMap() {
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(1_000) - 500;
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertEquals(removed == null ? 0 : removed, hashTable.remove(key));
+            } else {
+                Integer previous = expected.put(key, i);
+                assertEquals(previous == null ? 0 : previous, hashTable.put(key, i));
+            }
+        }
+
+        assertEquals(expected.size(), hashTable.size());
+        Map<Integer, Integer> actual = new HashMap<>();
+        hashTable.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Clear should reset the table")
+    void clearShouldReset() {
+        for (int i = 0; i < 100; i++) {
+            hashTable.put(i, i * i);
+        }
+
+        hashTable.clear();
+
+        assertTrue(hashTable.isEmpty());
+        assertFalse(hashTable.containsKey(0));
+        assertFalse(hashTable.containsKey(50));
+    }
+}
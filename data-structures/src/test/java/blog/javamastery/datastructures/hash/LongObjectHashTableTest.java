@@ -0,0 +1,109 @@
+package blog.javamastery.datastructures.hash;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Long-Object Hash Table operations")
+class LongObjectHashTableTest {
+
+    private LongObjectHashTable<String> hashTable;
+
+    @BeforeEach
+    void setUp() {
+        hashTable = new LongObjectHashTable<>();
+    }
+
+    @Test
+    @DisplayName("Put and get single value")
+    void putAndGetSingleValue() {
+        hashTable.put(42L, "answer");
+        assertEquals("answer", hashTable.get(42L));
+        assertNull(hashTable.get(7L));
+    }
+
+    @Test
+    @DisplayName("Update existing value")
+    void updateExistingValue() {
+        assertNull(hashTable.put(1L, "one"));
+        assertEquals("one", hashTable.put(1L, "uno"));
+        assertEquals("uno", hashTable.get(1L));
+        assertEquals(1, hashTable.size());
+    }
+
+    @Test
+    @DisplayName("Zero and negative keys are regular keys")
+    void zeroAndNegativeKeysAreRegularKeys() {
+        assertFalse(hashTable.containsKey(0L));
+
+        hashTable.put(0L, "zero");
+        hashTable.put(-1L, "minus one");
+        hashTable.put(Long.MIN_VALUE, "min");
+
+        assertEquals(3, hashTable.size());
+        assertEquals("zero", hashTable.get(0L));
+        assertEquals("minus one", hashTable.get(-1L));
+        assertEquals("min", hashTable.get(Long.MIN_VALUE));
+
+        assertEquals("zero", hashTable.remove(0L));
+        assertFalse(hashTable.containsKey(0L));
+        assertEquals(2, hashTable.size());
+    }
+
+    @Test
+    @DisplayName("Sequential keys survive resizing and removal")
+    void sequentialKeysSurviveResizingAndRemoval() {
+        for (int i = 1; i <= 10_000; i++) {
+            hashTable.put(i, "v" + i);
+        }
+        for (int i = 1; i <= 10_000; i += 2) {
+            assertEquals("v" + i, hashTable.remove(i));
+        }
+
+        assertEquals(5_000, hashTable.size());
+        for (int i = 1; i <= 10_000; i++) {
+            assertEquals(i % 2 == 0 ? "v" + i : null, hashTable.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Random operations should match java.util.HashMap")
+    void randomOperationsShouldMatchHashMap() {
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(1_000) - 500;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), hashTable.remove(key));
+            } else {
+                assertEquals(expected.put(key, "v" + i), hashTable.put(key, "v" + i));
+            }
+        }
+
+        assertEquals(expected.size(), hashTable.size());
+        Map<Long, String> actual = new HashMap<>();
+        hashTable.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Clear should reset the table")
+    void clearShouldReset() {
+        hashTable.put(0L, "zero");
+        hashTable.put(1L, "one");
+
+        hashTable.clear();
+
+        assertTrue(hashTable.isEmpty());
+        assertEquals(0.0, hashTable.getLoadFactor());
+        assertNull(hashTable.get(0L));
+        assertNull(hashTable.get(1L));
+    }
+}
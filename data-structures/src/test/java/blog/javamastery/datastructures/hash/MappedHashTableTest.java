@@ -0,0 +1,133 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Memory-Mapped Hash Table operations")
+class MappedHashTableTest extends SimpleHashTableTest {
+
+    @TempDir
+    Path directory;
+
+    @Override
+    protected HashTable<String, Integer> createHashTable() {
+        try {
+            return open(directory.resolve("contract.table"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MappedHashTable<String, Integer> open(Path file) throws IOException {
+        return new MappedHashTable<>(file, FixedWidthSerializer.utf8(16), FixedWidthSerializer.INTEGER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((MappedHashTable<String, Integer>) hashTable).close();
+    }
+
+    @Test
+    @DisplayName("Reopening a closed table should restore its contents")
+    void reopenShouldRestoreContents() throws IOException {
+        Path file = directory.resolve("reopen.table");
+        try (var table = open(file)) {
+            for (int i = 0; i < 1_000; i++) {
+                table.put("key" + i, i);
+            }
+            table.remove("key0");
+        }
+
+        try (var table = open(file)) {
+            assertFalse(table.wasRecovered());
+            assertEquals(999, table.size());
+            assertNull(table.get("key0"));
+            for (int i = 1; i < 1_000; i++) {
+                assertEquals(i, table.get("key" + i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Unsaved changes should trigger recovery on reopen")
+    void unsavedChangesShouldTriggerRecovery() throws IOException {
+        Path file = directory.resolve("crash.table");
+        var crashed = open(file);
+        crashed.put("one", 1);
+        crashed.force();
+        crashed.put("two", 2);
+
+        // Simulate a crash: the first table is never closed or forced again
+        try (var table = open(file)) {
+            assertTrue(table.wasRecovered());
+            assertEquals(2, table.size());
+            assertEquals(1, table.get("one"));
+            assertEquals(2, table.get("two"));
+        }
+    }
+
+    @Test
+    @DisplayName("A corrupt header record should fall back to the previous one")
+    void corruptHeaderShouldFallBack() throws IOException {
+        Path file = directory.resolve("corrupt.table");
+        try (var table = open(file)) {
+            table.put("one", 1);
+        }
+
+        // Damage the checksum of both records in turn; one of them is the latest
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer latest = ByteBuffer.allocate(8);
+            channel.read(latest, 8);
+            ByteBuffer other = ByteBuffer.allocate(8);
+            channel.read(other, 2048 + 8);
+            long latestOffset = latest.getLong(0) > other.getLong(0) ? 0 : 2048;
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), latestOffset + 36);
+        }
+
+        try (var table = open(file)) {
+            assertEquals(1, table.get("one"));
+            assertEquals(1, table.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Growing the table should keep the file reopenable")
+    void growingShouldKeepFileReopenable() throws IOException {
+        Path file = directory.resolve("grow.table");
+        int capacity;
+        try (var table = new MappedHashTable<>(file, FixedWidthSerializer.LONG, FixedWidthSerializer.LONG)) {
+            for (long i = 0; i < 50_000; i++) {
+                table.put(i, -i);
+            }
+            capacity = table.capacity();
+        }
+
+        try (var table = new MappedHashTable<>(file, FixedWidthSerializer.LONG, FixedWidthSerializer.LONG)) {
+            assertEquals(capacity, table.capacity());
+            assertEquals(50_000, table.size());
+            assertEquals(-49_999L, table.get(49_999L));
+        }
+    }
+
+    @Test
+    @DisplayName("Opening with serializers of a different width should fail")
+    void mismatchedSerializersShouldFail() throws IOException {
+        Path file = directory.resolve("widths.table");
+        open(file).close();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new MappedHashTable<>(file, FixedWidthSerializer.LONG, FixedWidthSerializer.INTEGER));
+    }
+}
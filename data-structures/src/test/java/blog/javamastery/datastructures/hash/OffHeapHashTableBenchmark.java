@@ -0,0 +1,74 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in an {@link OffHeapHashTable} with a heap-resident {@link SimpleHashTable}.
+ * Run with {@code -prof gc} to compare the collector's work as well: the on-heap table keeps
+ * millions of live nodes that every full collection has to trace.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark="OffHeapHashTableBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+@State(Scope.Thread)
+public class OffHeapHashTableBenchmark {
+    private static final int BATCH = 1000;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private long[] keys;
+    private HashTable<Long, Long> onHeap;
+    private OffHeapHashTable<Long, Long> offHeap;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new long[size];
+        onHeap = new SimpleHashTable<>();
+        offHeap = new OffHeapHashTable<>(FixedWidthSerializer.LONG, FixedWidthSerializer.LONG, size);
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextLong();
+            onHeap.put(keys[i], keys[i]);
+            offHeap.put(keys[i], keys[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        offHeap.close();
+    }
+
+    private int nextBatch() {
+        cursor = (cursor + BATCH) % size;
+        return cursor;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void onHeapGet(Blackhole blackhole) {
+        int start = nextBatch();
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(onHeap.get(keys[start + i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void offHeapGet(Blackhole blackhole) {
+        int start = nextBatch();
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(offHeap.get(keys[start + i]));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Off-Heap Hash Table operations")
+class OffHeapHashTableTest extends SimpleHashTableTest {
+
+    @Override
+    protected HashTable<String, Integer> createHashTable() {
+        return new OffHeapHashTable<>(FixedWidthSerializer.utf8(16), FixedWidthSerializer.INTEGER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ((OffHeapHashTable<String, Integer>) hashTable).close();
+    }
+
+    @Test
+    @DisplayName("Native footprint should follow the capacity")
+    void nativeFootprintShouldFollowCapacity() {
+        try (var table = new OffHeapHashTable<>(FixedWidthSerializer.LONG, FixedWidthSerializer.LONG, 1_000)) {
+            // 4 hash bytes + 8 key bytes + 8 value bytes per slot
+            assertEquals(table.capacity() * 20L, table.nativeMemoryBytes());
+
+            long before = table.nativeMemoryBytes();
+            for (long i = 0; i < 10_000; i++) {
+                table.put(i, i * i);
+            }
+            assertTrue(table.nativeMemoryBytes() > before);
+            assertEquals(10_000, table.size());
+            assertEquals(81L, table.get(9L));
+        }
+    }
+
+    @Test
+    @DisplayName("Random operations should match java.util.HashMap")
+    void randomOperationsShouldMatchHashMap() {
+        Map<Long, Double> expected = new HashMap<>();
+        Random random = new Random(5);
+
+        try (var table = new OffHeapHashTable<>(FixedWidthSerializer.LONG, FixedWidthSerializer.DOUBLE)) {
+            for (int i = 0; i < 50_000; i++) {
+                long key = random.nextInt(2_000);
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(key), table.remove(key));
+                } else {
+                    double value = random.nextDouble();
+                    assertEquals(expected.put(key, value), table.put(key, value));
+                }
+            }
+
+            assertEquals(expected.size(), table.size());
+            for (var entry : table) {
+                assertEquals(expected.get(entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Closed table should reject every operation")
+    void closedTableShouldRejectOperations() {
+        var table = new OffHeapHashTable<>(FixedWidthSerializer.INTEGER, FixedWidthSerializer.INTEGER);
+        table.put(1, 1);
+        table.close();
+
+        assertTrue(table.isClosed());
+        assertThrows(IllegalStateException.class, () -> table.get(1));
+        assertThrows(IllegalStateException.class, () -> table.put(2, 2));
+        assertThrows(IllegalStateException.class, table::size);
+        assertThrows(IllegalStateException.class, table::iterator);
+        assertDoesNotThrow(table::close);
+    }
+
+    @Test
+    @DisplayName("Null values and oversized keys should be rejected")
+    void invalidValuesShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> hashTable.put("key", null));
+        assertThrows(IllegalArgumentException.class, () -> hashTable.put("a key longer than sixteen bytes", 1));
+        assertTrue(hashTable.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Entry setValue should write through to the table")
+    void entrySetValueShouldWriteThrough() {
+        hashTable.put("one", 1);
+
+        var entry = hashTable.iterator().next();
+        assertEquals(1, entry.setValue(10));
+        assertEquals(10, hashTable.get("one"));
+    }
+}
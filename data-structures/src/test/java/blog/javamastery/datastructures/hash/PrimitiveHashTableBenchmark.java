@@ -0,0 +1,111 @@
+package blog.javamastery.datastructures.hash;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the primitive-keyed tables with a boxed {@link SimpleHashTable}.
+ * Running with {@code -prof gc} shows the per-operation allocation as well.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark="PrimitiveHashTableBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveHashTableBenchmark {
+    private static final int BATCH = 1000;
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private int[] keys;
+    private SimpleHashTable<Integer, Integer> boxed;
+    private IntObjectHashTable<Integer> intObject;
+    private LongObjectHashTable<Integer> longObject;
+    private IntIntHashTable intInt;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new int[size];
+        boxed = new SimpleHashTable<>();
+        intObject = new IntObjectHashTable<>();
+        longObject = new LongObjectHashTable<>();
+        intInt = new IntIntHashTable();
+
+        for (int i = 0; i < size; i++) {
+            int key = random.nextInt();
+            keys[i] = key;
+            boxed.put(key, i);
+            intObject.put(key, i);
+            longObject.put(key, i);
+            intInt.put(key, i);
+        }
+    }
+
+    private int nextBatch() {
+        cursor = (cursor + BATCH) % size;
+        return cursor;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void boxedGet(Blackhole blackhole) {
+        int start = nextBatch();
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(boxed.get(keys[(start + i) % size]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void intObjectGet(Blackhole blackhole) {
+        int start = nextBatch();
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(intObject.get(keys[(start + i) % size]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void longObjectGet(Blackhole blackhole) {
+        int start = nextBatch();
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(longObject.get(keys[(start + i) % size]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void intIntGet(Blackhole blackhole) {
+        int start = nextBatch();
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(intInt.get(keys[(start + i) % size]));
+        }
+    }
+
+    @Benchmark
+    public SimpleHashTable<Integer, Integer> boxedPutAll() {
+        var table = new SimpleHashTable<Integer, Integer>();
+        for (int key : keys) {
+            table.put(key, key);
+        }
+        return table;
+    }
+
+    @Benchmark
+    public IntIntHashTable intIntPutAll() {
+        var table = new IntIntHashTable();
+        for (int key : keys) {
+            table.put(key, key);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,95 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the chained {@link SimpleHashTable} with the open-addressing {@link RobinHoodHashTable}.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=RobinHoodHashTableBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RobinHoodHashTableBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer[] keys;
+    private Integer[] missingKeys;
+    private HashTable<Integer, Integer> simple;
+    private HashTable<Integer, Integer> robinHood;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new Integer[size];
+        missingKeys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            int key = random.nextInt(Integer.MAX_VALUE);
+            keys[i] = key;
+            missingKeys[i] = -key - 1;
+        }
+
+        simple = fill(new SimpleHashTable<>());
+        robinHood = fill(new RobinHoodHashTable<>());
+    }
+
+    private HashTable<Integer, Integer> fill(HashTable<Integer, Integer> table) {
+        for (Integer key : keys) {
+            table.put(key, key);
+        }
+        return table;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void simpleGetHit(Blackhole blackhole) {
+        lookup(simple, keys, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void robinHoodGetHit(Blackhole blackhole) {
+        lookup(robinHood, keys, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void simpleGetMiss(Blackhole blackhole) {
+        lookup(simple, missingKeys, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void robinHoodGetMiss(Blackhole blackhole) {
+        lookup(robinHood, missingKeys, blackhole);
+    }
+
+    @Benchmark
+    public HashTable<Integer, Integer> simplePutAll() {
+        return fill(new SimpleHashTable<>());
+    }
+
+    @Benchmark
+    public HashTable<Integer, Integer> robinHoodPutAll() {
+        return fill(new RobinHoodHashTable<>());
+    }
+
+    private void lookup(HashTable<Integer, Integer> table, Integer[] probes, Blackhole blackhole) {
+        // Stride through the probes so every invocation touches a different part of the table
+        cursor = (cursor + 1000) % probes.length;
+        for (int i = 0; i < 1000; i++) {
+            blackhole.consume(table.get(probes[(cursor + i) % probes.length]));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Robin Hood Hash Table operations")
+class RobinHoodHashTableTest extends SimpleHashTableTest {
+
+    @Override
+    protected HashTable<String, Integer> createHashTable() {
+        return new RobinHoodHashTable<>();
+    }
+
+    @Test
+    @DisplayName("Backward-shift deletion keeps displaced keys reachable")
+    void backwardShiftKeepsDisplacedKeysReachable() {
+        // Colliding keys form one probe run
+        String[] keys = {"Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa"};
+        for (int i = 0; i < keys.length; i++) {
+            hashTable.put(keys[i], i);
+        }
+
+        assertEquals(0, hashTable.remove("Aa"));
+        assertEquals(3, hashTable.remove("BBBB"));
+
+        assertNull(hashTable.get("Aa"));
+        assertNull(hashTable.get("BBBB"));
+        assertEquals(1, hashTable.get("BB"));
+        assertEquals(2, hashTable.get("AaAa"));
+        assertEquals(4, hashTable.get("AaBB"));
+        assertEquals(5, hashTable.get("BBAa"));
+        assertEquals(4, hashTable.size());
+    }
+
+    @Test
+    @DisplayName("Random operations should match java.util.HashMap")
+    void randomOperationsShouldMatchHashMap() {
+        Map<String, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50_000; i++) {
+            String key = "key" + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), hashTable.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), hashTable.put(key, i));
+            }
+        }
+
+        assertEquals(expected.size(), hashTable.size());
+        for (var entry : hashTable) {
+            assertEquals(expected.get(entry.getKey()), entry.getValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Entry setValue should write through to the table")
+    void entrySetValueShouldWriteThrough() {
+        hashTable.put("one", 1);
+
+        var entry = hashTable.iterator().next();
+        assertEquals(1, entry.setValue(10));
+        assertEquals(10, hashTable.get("one"));
+    }
+
+    @Test
+    @DisplayName("Pre-sized table should not resize before reaching the expected size")
+    void preSizedTableShouldNotResize() {
+        var table = new RobinHoodHashTable<Integer, Integer>(1_000);
+        int capacity = table.capacity();
+
+        for (int i = 0; i < 1_000; i++) {
+            table.put(i, i);
+        }
+
+        assertEquals(capacity, table.capacity());
+        assertTrue(table.getLoadFactor() < 1.0);
+    }
+}
@@ -0,0 +1,67 @@
+package blog.javamastery.datastructures.hash;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups in a {@link SimpleHashTable} whose keys all share one hash code, the
+ * worst case an adversary can produce. Comparable keys end up in a tree bucket and are
+ * found in O(log n); keys without an ordering stay in a chain and are found in O(n).
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=SimpleHashTableCollisionBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimpleHashTableCollisionBenchmark {
+
+    public record ComparableKey(int id) implements Comparable<ComparableKey> {
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+
+        @Override
+        public int compareTo(ComparableKey other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    public record PlainKey(int id) {
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    @Param({"true", "false"})
+    private boolean comparable;
+
+    private Object[] keys;
+    private SimpleHashTable<Object, Integer> table;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new Object[size];
+        table = new SimpleHashTable<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = comparable ? new ComparableKey(i) : new PlainKey(i);
+            table.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        Object key = keys[next];
+        next = next + 1 == size ? 0 : next + 1;
+        return table.get(key);
+    }
+}
@@ -0,0 +1,229 @@
+package blog.javamastery.datastructures.hash;
+
+import blog.javamastery.datastructures.common.HashTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Simple Hash Table with colliding keys")
+class SimpleHashTableCollisionTest {
+
+    /**
+     * Comparable key whose hash code is the same for every instance.
+     */
+    private record CollidingKey(int id) implements Comparable<CollidingKey> {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public int compareTo(CollidingKey other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    /**
+     * Key with a constant hash code whose ordering ignores the tag, so keys that differ only
+     * in their tag compare as equal without being equal.
+     */
+    private record InconsistentKey(int id, String tag) implements Comparable<InconsistentKey> {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+
+        @Override
+        public int compareTo(InconsistentKey other) {
+            return Integer.compare(id, other.id);
+        }
+    }
+
+    /**
+     * Key with a constant hash code that offers no ordering.
+     */
+    private record UnorderedKey(int id) {
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    private static void fill(HashTable<Object, Integer> table, int count) {
+        for (int i = 0; i < count; i++) {
+            table.put(new CollidingKey(i), i);
+        }
+    }
+
+    @Test
+    @DisplayName("Comparable keys with one hash code stay retrievable")
+    void comparableCollidingKeysStayRetrievable() {
+        HashTable<Object, Integer> table = new SimpleHashTable<>();
+        fill(table, 1_000);
+
+        assertEquals(1_000, table.size());
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(i, table.get(new CollidingKey(i)));
+        }
+        assertNull(table.get(new CollidingKey(1_000)));
+        assertEquals(7, table.put(new CollidingKey(7), -7));
+        assertEquals(-7, table.get(new CollidingKey(7)));
+        assertEquals(1_000, table.size());
+    }
+
+    @Test
+    @DisplayName("Removing from a tree bucket keeps the remaining keys")
+    void removeFromTreeBucket() {
+        HashTable<Object, Integer> table = new SimpleHashTable<>();
+        fill(table, 100);
+
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, table.remove(new CollidingKey(i)));
+        }
+        assertNull(table.remove(new CollidingKey(0)));
+
+        assertEquals(50, table.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? null : i, table.get(new CollidingKey(i)));
+        }
+
+        // Shrinks below the threshold and back into a chain
+        for (int i = 1; i < 100; i += 2) {
+            assertEquals(i, table.remove(new CollidingKey(i)));
+        }
+        assertTrue(table.isEmpty());
+        fill(table, 20);
+        assertEquals(20, table.size());
+    }
+
+    @Test
+    @DisplayName("Keys that cannot be ordered fall back to chaining")
+    void unorderedKeysFallBackToChaining() {
+        HashTable<Object, Integer> table = new SimpleHashTable<>();
+        for (int i = 0; i < 100; i++) {
+            table.put(new UnorderedKey(i), i);
+        }
+
+        assertEquals(100, table.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, table.get(new UnorderedKey(i)));
+        }
+        assertEquals(5, table.remove(new UnorderedKey(5)));
+        assertFalse(table.containsKey(new UnorderedKey(5)));
+    }
+
+    @Test
+    @DisplayName("Mixing key classes in a tree bucket keeps every mapping")
+    void mixedKeyClassesInTreeBucket() {
+        HashTable<Object, Integer> table = new SimpleHashTable<>();
+        fill(table, 50);
+        table.put(new UnorderedKey(1), -1);
+        table.put(new UnorderedKey(2), -2);
+
+        assertEquals(52, table.size());
+        assertEquals(-1, table.get(new UnorderedKey(1)));
+        assertEquals(-2, table.get(new UnorderedKey(2)));
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i, table.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Iteration and bulk operations see every key in tree buckets")
+    void iterationSeesTreeBuckets() {
+        HashTable<Object, Integer> table = new SimpleHashTable<>(SimpleHashTable.ResizeMode.INCREMENTAL);
+        fill(table, 500);
+
+        Set<Object> seen = new HashSet<>();
+        for (HashTable.Entry<Object, Integer> entry : table) {
+            assertTrue(seen.add(entry.getKey()));
+        }
+        assertEquals(500, seen.size());
+        assertEquals(500, table.parallelStream().count());
+
+        assertTrue(table.removeIf(entry -> entry.getValue() >= 3));
+        assertEquals(3, table.size());
+        assertEquals(2, table.get(new CollidingKey(2)));
+    }
+
+    @Test
+    @DisplayName("Keys that compare as equal but are not equal keep separate mappings")
+    void compareToTiesShouldNotMergeUnequalKeys() {
+        HashTable<InconsistentKey, String> table = new SimpleHashTable<>();
+        for (int i = 0; i < 20; i++) {
+            table.put(new InconsistentKey(i, "x"), "other");
+        }
+        table.put(new InconsistentKey(3, "x"), "first");
+
+        assertNull(table.put(new InconsistentKey(3, "y"), "second"));
+        assertEquals(21, table.size());
+        assertEquals("first", table.get(new InconsistentKey(3, "x")));
+        assertEquals("second", table.get(new InconsistentKey(3, "y")));
+        assertNull(table.get(new InconsistentKey(3, "z")));
+
+        assertEquals("first", table.remove(new InconsistentKey(3, "x")));
+        assertNull(table.get(new InconsistentKey(3, "x")));
+        assertEquals("second", table.get(new InconsistentKey(3, "y")));
+        assertEquals(20, table.size());
+    }
+
+    @Test
+    @DisplayName("Random operations on tied keys should match a HashMap")
+    void randomOperationsOnTiedKeysShouldMatchHashMap() {
+        HashTable<InconsistentKey, Integer> table = new SimpleHashTable<>();
+        Map<InconsistentKey, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            var key = new InconsistentKey(random.nextInt(8), String.valueOf(random.nextInt(16)));
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.put(key, i), table.put(key, i));
+                case 1 -> assertEquals(expected.remove(key), table.remove(key));
+                default -> assertEquals(expected.get(key), table.get(key));
+            }
+        }
+
+        assertEquals(expected.size(), table.size());
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), table.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    @DisplayName("A filter that throws should leave the size matching the remaining entries")
+    void removeIfShouldKeepSizeWhenFilterThrows() {
+        HashTable<Object, Integer> chained = new SimpleHashTable<>();
+        HashTable<Object, Integer> treeified = new SimpleHashTable<>();
+        for (int i = 0; i < 100; i++) {
+            chained.put(i, i);
+            treeified.put(new CollidingKey(i), i);
+        }
+
+        for (HashTable<Object, Integer> table : List.of(chained, treeified)) {
+            AtomicInteger tested = new AtomicInteger();
+            assertThrows(IllegalStateException.class, () -> table.removeIf(entry -> {
+                if (tested.incrementAndGet() > 50) {
+                    throw new IllegalStateException("Filter failed");
+                }
+                return true;
+            }));
+
+            int remaining = 0;
+            for (var ignored : table) {
+                remaining++;
+            }
+            assertEquals(50, remaining);
+            assertEquals(remaining, table.size());
+            assertFalse(table.isEmpty());
+        }
+    }
+}
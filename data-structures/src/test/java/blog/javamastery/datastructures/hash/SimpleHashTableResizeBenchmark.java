@@ -0,0 +1,50 @@
+package blog.javamastery.datastructures.hash;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the latency of individual {@code put} calls on a growing {@link SimpleHashTable}.
+ * The interesting numbers are the high percentiles: eager resizing shows a spike whenever the
+ * table doubles, while incremental resizing spreads that work over subsequent operations.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=SimpleHashTableResizeBenchmark}
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SimpleHashTableResizeBenchmark {
+
+    // Tables are recreated once they reach this many entries
+    private static final int MAX_ENTRIES = 1 << 22;
+
+    @Param({"EAGER", "INCREMENTAL"})
+    private SimpleHashTable.ResizeMode resizeMode;
+
+    private Integer[] keys;
+    private SimpleHashTable<Integer, Integer> table;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = new Integer[MAX_ENTRIES];
+        for (int i = 0; i < MAX_ENTRIES; i++) {
+            keys[i] = i;
+        }
+        table = new SimpleHashTable<>(resizeMode);
+    }
+
+    @Benchmark
+    public Integer put() {
+        if (next == MAX_ENTRIES) {
+            table = new SimpleHashTable<>(resizeMode);
+            next = 0;
+        }
+        Integer key = keys[next++];
+        return table.put(key, key);
+    }
+}
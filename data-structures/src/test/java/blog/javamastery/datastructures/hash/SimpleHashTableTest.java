@@ -1,5 +1,6 @@
 package blog.javamastery.datastructures.hash;
 
+import blog.javamastery.datastructures.common.HashTable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,11 +12,19 @@ import static org.junit.jupiter.api.Assertions.*;
 @DisplayName("Simple Hash Table operations")
 class SimpleHashTableTest {
 
-    private SimpleHashTable<String, Integer> hashTable;
+    protected HashTable<String, Integer> hashTable;
 
     @BeforeEach
     void setUp() {
-        hashTable = new SimpleHashTable<>();
+        hashTable = createHashTable();
+    }
+
+    /**
+     * Creates the table under test; other {@link HashTable} implementations
+     * override this to run against the same contract.
+     */
+    protected HashTable<String, Integer> createHashTable() {
+        return new SimpleHashTable<>();
     }
 
     @Test
@@ -215,4 +224,96 @@ class SimpleHashTableTest {
         assertThrows(NoSuchElementException.class, iterator::next);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("putAll should copy every mapping")
+    void putAllShouldCopyEveryMapping() {
+        HashTable<String, Integer> source = new SimpleHashTable<>();
+        for (int i = 0; i < 100; i++) {
+            source.put("key" + i, i);
+        }
+        hashTable.put("key0", -1);
+        hashTable.put("other", 1);
+
+        hashTable.putAll(source);
+
+        assertEquals(101, hashTable.size());
+        assertEquals(0, hashTable.get("key0"));
+        assertEquals(99, hashTable.get("key99"));
+        assertEquals(1, hashTable.get("other"));
+    }
+
+    @Test
+    @DisplayName("ensureCapacity should keep every mapping")
+    void ensureCapacityShouldKeepEveryMapping() {
+        for (int i = 0; i < 20; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        hashTable.ensureCapacity(10_000);
+
+        assertEquals(20, hashTable.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, hashTable.get("key" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("removeIf should remove only matching entries")
+    void removeIfShouldRemoveMatchingEntries() {
+        for (int i = 0; i < 50; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        assertTrue(hashTable.removeIf(entry -> entry.getValue() % 2 == 0));
+        assertFalse(hashTable.removeIf(entry -> entry.getValue() % 2 == 0));
+
+        assertEquals(25, hashTable.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i % 2 != 0, hashTable.containsKey("key" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("forEach should visit every key and value")
+    void forEachShouldVisitEveryKeyAndValue() {
+        hashTable.put("one", 1);
+        hashTable.put("two", 2);
+        hashTable.put("three", 3);
+
+        Map<String, Integer> seen = new HashMap<>();
+        hashTable.forEach(seen::put);
+
+        assertEquals(Map.of("one", 1, "two", 2, "three", 3), seen);
+    }
+
+    @Test
+    @DisplayName("Sequential and parallel streams should see every entry")
+    void streamsShouldSeeEveryEntry() {
+        for (int i = 0; i < 10_000; i++) {
+            hashTable.put("key" + i, i);
+        }
+        long expectedSum = 10_000L * 9_999 / 2;
+
+        assertEquals(10_000, hashTable.stream().count());
+        assertEquals(expectedSum, hashTable.stream().mapToLong(HashTable.Entry::getValue).sum());
+        assertEquals(expectedSum, hashTable.parallelStream().mapToLong(HashTable.Entry::getValue).sum());
+        assertEquals(10_000, hashTable.parallelStream().map(HashTable.Entry::getKey).distinct().count());
+    }
+
+    @Test
+    @DisplayName("Spliterator halves should together cover every entry")
+    void spliteratorHalvesShouldCoverEveryEntry() {
+        for (int i = 0; i < 5_000; i++) {
+            hashTable.put("key" + i, i);
+        }
+
+        var suffix = hashTable.spliterator();
+        var prefix = suffix.trySplit();
+        assertNotNull(prefix);
+
+        Set<String> seenKeys = new HashSet<>();
+        prefix.forEachRemaining(entry -> assertTrue(seenKeys.add(entry.getKey())));
+        suffix.forEachRemaining(entry -> assertTrue(seenKeys.add(entry.getKey())));
+        assertEquals(5_000, seenKeys.size());
+    }
+}
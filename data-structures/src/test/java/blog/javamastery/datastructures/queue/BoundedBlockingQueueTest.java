@@ -0,0 +1,168 @@
+package blog.javamastery.datastructures.queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bounded Blocking Queue operations")
+class BoundedBlockingQueueTest {
+    private BoundedBlockingQueue<String> queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new BoundedBlockingQueue<>(3);
+    }
+
+    @Test
+    @DisplayName("Queue should be empty when newly created")
+    void newQueueShouldBeEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertEquals(3, queue.remainingCapacity());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    @DisplayName("Elements should leave in FIFO order across laps of the array")
+    void elementsShouldLeaveInOrder() throws InterruptedException {
+        for (int i = 0; i < 10; i++) {
+            queue.put("Element" + i);
+            queue.offer("Extra" + i);
+            assertEquals("Element" + i, queue.peek());
+            assertEquals("Element" + i, queue.take());
+            assertEquals("Extra" + i, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Offer should fail when the queue is full")
+    void offerShouldFailWhenFull() throws InterruptedException {
+        assertTrue(queue.offer("First"));
+        assertTrue(queue.offer("Second"));
+        assertTrue(queue.offer("Third"));
+        assertFalse(queue.offer("Fourth"));
+        assertFalse(queue.offer("Fourth", 10, TimeUnit.MILLISECONDS));
+        assertEquals(0, queue.remainingCapacity());
+    }
+
+    @Test
+    @DisplayName("Timed poll should give up on an empty queue")
+    void timedPollShouldTimeOut() throws InterruptedException {
+        long start = System.nanoTime();
+        assertNull(queue.poll(20, TimeUnit.MILLISECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void invalidArgumentsShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedBlockingQueue<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> queue.put(null));
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    @DisplayName("Put should wait for space and take should wait for an element")
+    void putAndTakeShouldWait() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            queue.put("Element" + i);
+        }
+
+        Thread producer = Thread.ofVirtual().start(() -> {
+            try {
+                queue.put("Waiting");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        // The producer has to park until a slot frees up
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        assertEquals(3, queue.size());
+        assertEquals("Element0", queue.take());
+        producer.join();
+        assertEquals(List.of("Element1", "Element2", "Waiting"),
+                List.of(queue.take(), queue.take(), queue.take()));
+
+        CompletableFuture<String> consumer = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                consumer.complete(queue.take());
+            } catch (InterruptedException e) {
+                consumer.completeExceptionally(e);
+            }
+        });
+        assertFalse(consumer.isDone());
+        queue.put("Late");
+        assertEquals("Late", consumer.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("A waiting thread should be interruptible")
+    void waitingThreadShouldBeInterruptible() throws Exception {
+        CompletableFuture<Throwable> outcome = new CompletableFuture<>();
+        Thread consumer = Thread.ofVirtual().start(() -> {
+            try {
+                queue.take();
+                outcome.complete(null);
+            } catch (InterruptedException e) {
+                outcome.complete(e);
+            }
+        });
+        while (consumer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        consumer.interrupt();
+        assertInstanceOf(InterruptedException.class, outcome.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Thousands of virtual threads should exchange every element exactly once")
+    void virtualThreadsShouldExchangeEveryElementOnce() throws Exception {
+        int producers = 1_000;
+        int consumers = 1_000;
+        int perProducer = 50;
+        int total = producers * perProducer;
+        BoundedBlockingQueue<Integer> shared = new BoundedBlockingQueue<>(16);
+        AtomicLongArray seen = new AtomicLongArray(total);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        shared.put(producer * perProducer + i);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < total / consumers; i++) {
+                        seen.incrementAndGet(shared.take());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        }
+
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(shared.isEmpty());
+    }
+}
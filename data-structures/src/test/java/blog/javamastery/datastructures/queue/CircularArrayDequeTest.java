@@ -0,0 +1,172 @@
+package blog.javamastery.datastructures.queue;
+
+import blog.javamastery.datastructures.common.Queue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Circular Array Deque Operations")
+class CircularArrayDequeTest {
+
+    static Stream<Named<Supplier<Queue<String>>>> queues() {
+        return Stream.of(
+                Named.of("SimpleQueue", SimpleQueue::new),
+                Named.of("CircularArrayDeque", CircularArrayDeque::new));
+    }
+
+    @ParameterizedTest
+    @MethodSource("queues")
+    @DisplayName("Queue should be empty when newly created")
+    void newQueueShouldBeEmpty(Supplier<Queue<String>> queues) {
+        Queue<String> queue = queues.get();
+
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertNull(queue.peek());
+        assertNull(queue.dequeue());
+    }
+
+    @ParameterizedTest
+    @MethodSource("queues")
+    @DisplayName("Dequeue should return elements in FIFO order")
+    void dequeueShouldReturnElementsInFifoOrder(Supplier<Queue<String>> queues) {
+        Queue<String> queue = queues.get();
+        queue.enqueue("First");
+        queue.enqueue("Second");
+        queue.enqueue("Third");
+
+        assertEquals(3, queue.size());
+        assertEquals("First", queue.peek());
+        assertEquals("First", queue.dequeue());
+        assertEquals("Second", queue.dequeue());
+        assertEquals("Third", queue.dequeue());
+        assertTrue(queue.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("queues")
+    @DisplayName("Iteration and streams should see the elements in FIFO order")
+    void iterationShouldFollowFifoOrder(Supplier<Queue<String>> queues) {
+        Queue<String> queue = queues.get();
+        queue.enqueue("first");
+        queue.enqueue("second");
+        queue.enqueue("third");
+
+        StringBuilder result = new StringBuilder();
+        for (var element : queue) {
+            result.append(element).append(",");
+        }
+        assertEquals("first,second,third,", result.toString());
+        assertEquals(List.of("FIRST", "SECOND", "THIRD"), queue.stream().map(String::toUpperCase).toList());
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    @DisplayName("Null elements should be rejected")
+    void nullElementsShouldBeRejected() {
+        var deque = new CircularArrayDeque<String>();
+        assertThrows(IllegalArgumentException.class, () -> deque.enqueue(null));
+        assertThrows(IllegalArgumentException.class, () -> deque.addFirst(null));
+    }
+
+    @Test
+    @DisplayName("Both ends should behave like a deque")
+    void bothEndsShouldBehaveLikeDeque() {
+        var deque = new CircularArrayDeque<String>();
+        deque.addLast("B");
+        deque.addFirst("A");
+        deque.addLast("C");
+
+        assertEquals("A", deque.peekFirst());
+        assertEquals("C", deque.peekLast());
+        assertEquals(List.of("A", "B", "C"), deque.stream().toList());
+        assertEquals("C", deque.pollLast());
+        assertEquals("A", deque.pollFirst());
+        assertEquals("B", deque.pollLast());
+        assertNull(deque.pollLast());
+        assertNull(deque.peekLast());
+    }
+
+    @Test
+    @DisplayName("Capacity should double when full and halve when a quarter full")
+    void capacityShouldGrowAndShrink() {
+        var deque = new CircularArrayDeque<Integer>();
+        assertEquals(16, deque.capacity());
+
+        for (int i = 0; i < 17; i++) {
+            deque.enqueue(i);
+        }
+        assertEquals(32, deque.capacity());
+
+        for (int i = 17; i < 100; i++) {
+            deque.enqueue(i);
+        }
+        assertEquals(128, deque.capacity());
+
+        // 32 of 128 is a quarter, which halves the array
+        while (deque.size() > 32) {
+            deque.dequeue();
+        }
+        assertEquals(64, deque.capacity());
+        while (!deque.isEmpty()) {
+            deque.dequeue();
+        }
+        assertEquals(16, deque.capacity());
+    }
+
+    @Test
+    @DisplayName("Growing a wrapped-around array should keep the order")
+    void growingWrappedArrayShouldKeepOrder() {
+        var deque = new CircularArrayDeque<Integer>();
+        // Move the head to the middle of the array, then fill it so the tail wraps around
+        for (int i = 0; i < 10; i++) {
+            deque.enqueue(-1);
+        }
+        for (int i = 0; i < 10; i++) {
+            deque.dequeue();
+        }
+        for (int i = 0; i < 40; i++) {
+            deque.enqueue(i);
+        }
+
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i, deque.dequeue());
+        }
+    }
+
+    @Test
+    @DisplayName("Random operations at both ends should match an ArrayDeque")
+    void randomOperationsShouldMatchArrayDeque() {
+        var deque = new CircularArrayDeque<Integer>();
+        var expected = new ArrayDeque<Integer>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    deque.addFirst(i);
+                    expected.addFirst(i);
+                }
+                case 1 -> {
+                    deque.addLast(i);
+                    expected.addLast(i);
+                }
+                case 2 -> assertEquals(expected.pollFirst(), deque.pollFirst());
+                default -> assertEquals(expected.pollLast(), deque.pollLast());
+            }
+        }
+
+        assertEquals(expected.size(), deque.size());
+        assertEquals(List.copyOf(expected), deque.stream().toList());
+    }
+}
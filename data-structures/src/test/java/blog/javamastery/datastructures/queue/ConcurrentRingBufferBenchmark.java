@@ -0,0 +1,85 @@
+package blog.javamastery.datastructures.queue;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures producer/consumer throughput through a {@link ConcurrentRingBuffer} and through a
+ * {@link SimpleQueue} behind a global lock, bounded to the same capacity. Each group runs
+ * producer and consumer threads against one shared queue; an operation that finds the queue
+ * full or empty counts as done, as it would for a non-blocking caller.
+ * <p>
+ * More producers and consumers can be set with {@code -tg}, e.g.
+ * {@code mvn -Pbenchmark verify -Dbenchmark="ConcurrentRingBufferBenchmark -tg 2,2"}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentRingBufferBenchmark {
+    private static final int CAPACITY = 1024;
+    private static final Integer ELEMENT = 42;
+
+    private ConcurrentRingBuffer<Integer> ringBuffer;
+    private SimpleQueue<Integer> lockedQueue;
+
+    @Setup
+    public void setUp() {
+        ringBuffer = new ConcurrentRingBuffer<>(CAPACITY);
+        lockedQueue = new SimpleQueue<>();
+    }
+
+    @Benchmark
+    @Group("ringBuffer")
+    @GroupThreads(1)
+    public boolean ringBufferOffer() {
+        return ringBuffer.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("ringBuffer")
+    @GroupThreads(1)
+    public Integer ringBufferPoll() {
+        return ringBuffer.poll();
+    }
+
+    @Benchmark
+    @Group("ringBufferDrain")
+    @GroupThreads(1)
+    public boolean ringBufferDrainOffer() {
+        return ringBuffer.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("ringBufferDrain")
+    @GroupThreads(1)
+    public int ringBufferDrain(Blackhole blackhole) {
+        return ringBuffer.drain(blackhole::consume, 64);
+    }
+
+    @Benchmark
+    @Group("lockedSimpleQueue")
+    @GroupThreads(1)
+    public boolean lockedSimpleQueueOffer() {
+        synchronized (lockedQueue) {
+            if (lockedQueue.size() == CAPACITY) {
+                return false;
+            }
+            lockedQueue.enqueue(ELEMENT);
+            return true;
+        }
+    }
+
+    @Benchmark
+    @Group("lockedSimpleQueue")
+    @GroupThreads(1)
+    public Integer lockedSimpleQueuePoll() {
+        synchronized (lockedQueue) {
+            return lockedQueue.dequeue();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package blog.javamastery.datastructures.queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Concurrent Ring Buffer operations")
+class ConcurrentRingBufferTest {
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int ELEMENTS_PER_PRODUCER = 20_000;
+
+    private ConcurrentRingBuffer<String> queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new ConcurrentRingBuffer<>(4);
+    }
+
+    @Test
+    @DisplayName("Queue should be empty when newly created")
+    void newQueueShouldBeEmpty() {
+        assertTrue(queue.isEmpty());
+        assertEquals(0, queue.size());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    @DisplayName("Poll should return elements in FIFO order")
+    void pollShouldReturnElementsInOrder() {
+        assertTrue(queue.offer("First"));
+        assertTrue(queue.offer("Second"));
+        assertTrue(queue.offer("Third"));
+        assertEquals(3, queue.size());
+
+        assertEquals("First", queue.poll());
+        assertEquals("Second", queue.poll());
+        assertEquals("Third", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Offer should fail when the queue is full")
+    void offerShouldFailWhenFull() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer("Element" + i));
+        }
+        assertFalse(queue.offer("Overflow"));
+        assertEquals(4, queue.size());
+
+        assertEquals("Element0", queue.poll());
+        assertTrue(queue.offer("Element4"));
+        assertFalse(queue.offer("Overflow"));
+    }
+
+    @Test
+    @DisplayName("Elements should keep their order across many laps of the buffer")
+    void shouldKeepOrderAcrossLaps() {
+        int next = 0;
+        for (int i = 0; i < 1_000; i++) {
+            // Keep the buffer full, so every slot is reused on every lap
+            if (!queue.offer("Element" + i)) {
+                assertEquals("Element" + next++, queue.poll());
+                assertTrue(queue.offer("Element" + i));
+            }
+        }
+        assertEquals(4, queue.size());
+        while (!queue.isEmpty()) {
+            assertEquals("Element" + next++, queue.poll());
+        }
+        assertEquals(1_000, next);
+    }
+
+    @Test
+    @DisplayName("Capacity should be rounded up to a power of two")
+    void capacityShouldBeRoundedUp() {
+        assertEquals(1, new ConcurrentRingBuffer<String>(1).getCapacity());
+        assertEquals(8, new ConcurrentRingBuffer<String>(5).getCapacity());
+        assertEquals(1024, new ConcurrentRingBuffer<String>(1024).getCapacity());
+    }
+
+    @Test
+    @DisplayName("Invalid arguments should be rejected")
+    void invalidArgumentsShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentRingBuffer<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null));
+        assertThrows(IllegalArgumentException.class, () -> queue.drain(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> queue.drain(element -> { }, -1));
+    }
+
+    @Test
+    @DisplayName("Drain should remove up to the maximum in FIFO order")
+    void drainShouldRemoveElementsInOrder() {
+        queue.offer("First");
+        queue.offer("Second");
+        queue.offer("Third");
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drain(drained::add, 2));
+        assertEquals(List.of("First", "Second"), drained);
+
+        assertEquals(1, queue.drain(drained::add, 10));
+        assertEquals(List.of("First", "Second", "Third"), drained);
+        assertEquals(0, queue.drain(drained::add, 10));
+
+        // The drained slots are free again
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer("Element" + i));
+        }
+        assertEquals(4, queue.drain(drained::add, 10));
+    }
+
+    @Test
+    @DisplayName("Concurrent producers and consumers should deliver every element exactly once")
+    void concurrentProducersAndConsumersShouldDeliverEveryElementOnce() throws Exception {
+        int producers = THREADS / 2;
+        int consumers = THREADS - producers;
+        int total = producers * ELEMENTS_PER_PRODUCER;
+        ConcurrentRingBuffer<Integer> ring = new ConcurrentRingBuffer<>(64);
+        AtomicLongArray seen = new AtomicLongArray(total);
+        AtomicInteger received = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+                        Integer element = producer * ELEMENTS_PER_PRODUCER + i;
+                        while (!ring.offer(element)) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                boolean batched = c % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    // Elements of one producer must arrive in the order it offered them
+                    int[] lastFromProducer = new int[producers];
+                    Arrays.fill(lastFromProducer, -1);
+                    Consumer<Integer> check = element -> {
+                        assertEquals(0, seen.getAndIncrement(element), "duplicate " + element);
+                        int producer = element / ELEMENTS_PER_PRODUCER;
+                        assertTrue(element > lastFromProducer[producer]);
+                        lastFromProducer[producer] = element;
+                        received.incrementAndGet();
+                    };
+                    while (received.get() < total) {
+                        boolean progress;
+                        if (batched) {
+                            progress = ring.drain(check, 16) > 0;
+                        } else {
+                            Integer element = ring.poll();
+                            progress = element != null;
+                            if (progress) {
+                                check.accept(element);
+                            }
+                        }
+                        if (!progress) {
+                            Thread.yield();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(total, received.get());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i));
+        }
+        assertTrue(ring.isEmpty());
+    }
+}
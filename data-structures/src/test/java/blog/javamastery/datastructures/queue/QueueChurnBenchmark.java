@@ -0,0 +1,46 @@
+package blog.javamastery.datastructures.queue;
+
+import blog.javamastery.datastructures.common.Queue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a steady stream through a queue holding a fixed backlog: every operation enqueues
+ * one element and dequeues another. {@link SimpleQueue} allocates a node per element, while
+ * {@link CircularArrayDeque} reuses its array; the {@code gc.alloc.rate.norm} column shows
+ * the garbage per operation.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark="QueueChurnBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueueChurnBenchmark {
+    private static final Integer ELEMENT = 42;
+
+    @Param({"16", "10000"})
+    private int backlog;
+
+    @Param({"simpleQueue", "circularArrayDeque"})
+    private String variant;
+
+    private Queue<Integer> queue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        queue = variant.equals("simpleQueue") ? new SimpleQueue<>() : new CircularArrayDeque<>();
+        for (int i = 0; i < backlog; i++) {
+            queue.enqueue(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    public Integer enqueueDequeue() {
+        queue.enqueue(ELEMENT);
+        return queue.dequeue();
+    }
+}
@@ -4,8 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -107,4 +110,36 @@ class SimpleQueueTest {
         var iterator = queue.iterator();
         assertThrows(NoSuchElementException.class, iterator::next);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Parallel streams should keep the FIFO encounter order")
+    void parallelStreamShouldKeepOrder() {
+        List<String> expected = IntStream.range(0, 10_000).mapToObj(String::valueOf).toList();
+        expected.forEach(queue::enqueue);
+
+        assertEquals(expected, queue.parallelStream().toList());
+        assertEquals(10_000L * 9_999 / 2, queue.parallelStream().mapToLong(Long::parseLong).sum());
+    }
+
+    @Test
+    @DisplayName("Split spliterators should know their sizes and cover every element in order")
+    void spliteratorShouldSplitIntoSizedBatches() {
+        SimpleQueue<Integer> numbers = new SimpleQueue<>();
+        for (int i = 0; i < 5_000; i++) {
+            numbers.enqueue(i);
+        }
+        numbers.dequeue();
+
+        Spliterator<Integer> suffix = numbers.spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(4_999, suffix.getExactSizeIfKnown());
+        Spliterator<Integer> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(4_999, prefix.getExactSizeIfKnown() + suffix.getExactSizeIfKnown());
+
+        List<Integer> seen = new ArrayList<>();
+        prefix.forEachRemaining(seen::add);
+        suffix.forEachRemaining(seen::add);
+        assertEquals(IntStream.range(1, 5_000).boxed().toList(), seen);
+    }
+}
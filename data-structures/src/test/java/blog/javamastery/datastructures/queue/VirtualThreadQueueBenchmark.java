@@ -0,0 +1,165 @@
+package blog.javamastery.datastructures.queue;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves messages from thousands of virtual-thread producers to thousands of virtual-thread
+ * consumers, comparing {@link BoundedBlockingQueue} with the spinning pattern it replaces: a
+ * {@link SimpleQueue} behind a global lock whose consumers yield and retry on null.
+ * <p>
+ * Each operation transfers {@code producers * messagesPerProducer} messages, so the score is
+ * the time per batch. Every message carries its send time, and the latency percentiles
+ * from send to receive are printed at the end of each trial.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=VirtualThreadQueueBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadQueueBenchmark {
+    private static final long POISON = Long.MIN_VALUE;
+    private static final int CAPACITY = 1024;
+    private static final int MAXIMUM_SAMPLES = 1 << 22;
+
+    @Param({"1000"})
+    private int producers;
+
+    @Param({"1000"})
+    private int consumers;
+
+    @Param({"100"})
+    private int messagesPerProducer;
+
+    @Param({"boundedBlockingQueue", "spinningSimpleQueue"})
+    private String variant;
+
+    // Latencies in nanoseconds, recorded by the consumers across the whole trial
+    private long[] latencies;
+    private AtomicInteger sampleCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        latencies = new long[MAXIMUM_SAMPLES];
+        sampleCount = new AtomicInteger();
+    }
+
+    @TearDown(Level.Trial)
+    public void printLatencies() {
+        int count = Math.min(sampleCount.get(), MAXIMUM_SAMPLES);
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        System.out.printf("%n%s latency over %d messages: p50 %s, p99 %s, p99.9 %s, max %s%n", variant, count,
+                micros(sorted, 0.50), micros(sorted, 0.99), micros(sorted, 0.999), micros(sorted, 1.0));
+    }
+
+    private static String micros(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return String.format("%.1f us", sorted[Math.max(0, index)] / 1_000.0);
+    }
+
+    private void record(long sentAt) {
+        int index = sampleCount.getAndIncrement();
+        if (index < MAXIMUM_SAMPLES) {
+            latencies[index] = System.nanoTime() - sentAt;
+        }
+    }
+
+    @Benchmark
+    public void transfer() throws Exception {
+        if (variant.equals("boundedBlockingQueue")) {
+            transferBlocking();
+        } else {
+            transferSpinning();
+        }
+    }
+
+    private void transferBlocking() throws Exception {
+        BoundedBlockingQueue<Long> queue = new BoundedBlockingQueue<>(CAPACITY);
+        run(() -> {
+            while (true) {
+                long sentAt = queue.take();
+                if (sentAt == POISON) {
+                    return;
+                }
+                record(sentAt);
+            }
+        }, queue::put);
+    }
+
+    private void transferSpinning() throws Exception {
+        SimpleQueue<Long> queue = new SimpleQueue<>();
+        run(() -> {
+            while (true) {
+                Long sentAt;
+                synchronized (queue) {
+                    sentAt = queue.dequeue();
+                }
+                if (sentAt == null) {
+                    Thread.yield();
+                } else if (sentAt == POISON) {
+                    return;
+                } else {
+                    record(sentAt);
+                }
+            }
+        }, message -> {
+            synchronized (queue) {
+                queue.enqueue(message);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Sender {
+        void send(Long message) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface Receiver {
+        void receiveAll() throws InterruptedException;
+    }
+
+    /**
+     * Starts the consumers and producers on virtual threads, then stops each consumer with a poison message.
+     */
+    private void run(Receiver receiver, Sender sender) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < consumers; c++) {
+                executor.submit(() -> {
+                    receiver.receiveAll();
+                    return null;
+                });
+            }
+            List<Future<?>> sent = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                sent.add(executor.submit(() -> {
+                    for (int i = 0; i < messagesPerProducer; i++) {
+                        sender.send(System.nanoTime());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : sent) {
+                future.get();
+            }
+            for (int c = 0; c < consumers; c++) {
+                sender.send(POISON);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package blog.javamastery.datastructures.skiplist;
+
+import blog.javamastery.datastructures.tree.BinarySearchTree;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a mixed workload shared by all benchmark threads, comparing a
+ * {@link BinarySearchTree} behind a global lock with {@link ConcurrentSkipList}.
+ * <p>
+ * Scaling is visible by running with increasing thread counts, e.g.
+ * {@code mvn -Pbenchmark verify -Dbenchmark="ConcurrentSkipListBenchmark -t 1"}, then {@code -t 2},
+ * {@code -t 4}, ... up to the number of cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ConcurrentSkipListBenchmark {
+    private static final int VALUE_SPACE = 1 << 16;
+
+    /**
+     * Percentage of operations that are writes (half inserts, half deletes).
+     */
+    @Param({"10", "50"})
+    private int writePercent;
+
+    private Integer[] values;
+    private BinarySearchTree<Integer> synchronizedTree;
+    private ConcurrentSkipList<Integer> skipList;
+
+    @Setup
+    public void setUp() {
+        values = new Integer[VALUE_SPACE];
+        for (int i = 0; i < VALUE_SPACE; i++) {
+            values[i] = i;
+        }
+
+        // Shuffled, so the unbalanced tree starts out with a logarithmic height
+        Integer[] shuffled = values.clone();
+        Random random = new Random(42);
+        for (int i = shuffled.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer swap = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = swap;
+        }
+
+        synchronizedTree = new BinarySearchTree<>();
+        skipList = new ConcurrentSkipList<>();
+        for (int i = 0; i < shuffled.length; i += 2) {
+            synchronizedTree.insert(shuffled[i]);
+            skipList.insert(shuffled[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean synchronizedBinarySearchTree() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer value = values[random.nextInt(VALUE_SPACE)];
+        int dice = random.nextInt(100);
+        synchronized (synchronizedTree) {
+            if (dice >= writePercent) {
+                return synchronizedTree.contains(value);
+            }
+            if (dice % 2 == 0) {
+                synchronizedTree.insert(value);
+            } else {
+                synchronizedTree.delete(value);
+            }
+            return true;
+        }
+    }
+
+    @Benchmark
+    public boolean concurrentSkipList() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer value = values[random.nextInt(VALUE_SPACE)];
+        int dice = random.nextInt(100);
+        if (dice >= writePercent) {
+            return skipList.contains(value);
+        }
+        return dice % 2 == 0 ? skipList.insert(value) : skipList.delete(value);
+    }
+}
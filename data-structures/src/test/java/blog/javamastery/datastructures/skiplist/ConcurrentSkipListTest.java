@@ -0,0 +1,204 @@
+package blog.javamastery.datastructures.skiplist;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static blog.javamastery.datastructures.common.ConcurrentTestSupport.THREADS;
+import static blog.javamastery.datastructures.common.ConcurrentTestSupport.runConcurrently;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Concurrent Skip List operations")
+class ConcurrentSkipListTest {
+    private static final int VALUES_PER_THREAD = 20_000;
+
+    private ConcurrentSkipList<Integer> list;
+
+    @BeforeEach
+    void setUp() {
+        list = new ConcurrentSkipList<>();
+    }
+
+    @Test
+    @DisplayName("Skip list should insert, find and delete values")
+    void shouldInsertFindAndDeleteValues() {
+        assertTrue(list.insert(50));
+        assertTrue(list.insert(30));
+        assertTrue(list.insert(70));
+        assertFalse(list.insert(30));
+
+        assertTrue(list.contains(30));
+        assertFalse(list.contains(40));
+        assertEquals(3, list.size());
+
+        assertTrue(list.delete(30));
+        assertFalse(list.delete(30));
+        assertFalse(list.contains(30));
+        assertEquals(2, list.size());
+    }
+
+    @Test
+    @DisplayName("Null values should be rejected")
+    void nullValuesShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> list.insert(null));
+        assertThrows(IllegalArgumentException.class, () -> list.contains(null));
+        assertThrows(IllegalArgumentException.class, () -> list.delete(null));
+    }
+
+    @Test
+    @DisplayName("Min and max should return the extreme values")
+    void minAndMaxShouldReturnExtremeValues() {
+        assertThrows(IllegalStateException.class, () -> list.min());
+        assertThrows(IllegalStateException.class, () -> list.max());
+
+        for (int value : List.of(50, 30, 70, 20, 40, 60, 80)) {
+            list.insert(value);
+        }
+        assertEquals(20, list.min());
+        assertEquals(80, list.max());
+
+        list.delete(20);
+        list.delete(80);
+        assertEquals(30, list.min());
+        assertEquals(70, list.max());
+    }
+
+    @Test
+    @DisplayName("Random insertions and deletions should match a TreeSet")
+    void randomOperationsShouldMatchTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), list.delete(value));
+            } else {
+                assertEquals(expected.add(value), list.insert(value));
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected), list.stream().toList());
+        assertEquals(expected.size(), list.size());
+    }
+
+    @Test
+    @DisplayName("Iterator should yield values in sorted order")
+    void iteratorShouldYieldSortedValues() {
+        for (int value : List.of(50, 30, 70, 20, 40, 60, 80)) {
+            list.insert(value);
+        }
+
+        Iterator<Integer> iterator = list.iterator();
+        List<Integer> values = new ArrayList<>();
+        while (iterator.hasNext()) {
+            values.add(iterator.next());
+        }
+
+        assertEquals(List.of(20, 30, 40, 50, 60, 70, 80), values);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("Range should stream the values between the bounds in order")
+    void rangeShouldStreamValuesBetweenBounds() {
+        for (int value : List.of(50, 20, 80, 10, 30, 70, 90)) {
+            list.insert(value);
+        }
+
+        assertEquals(List.of(20, 30, 50), list.range(20, 70).toList());
+        assertEquals(List.of(30, 50, 70), list.range(25, 71).toList());
+        assertEquals(List.of(10, 20, 30, 50, 70, 80, 90), list.range(0, 100).toList());
+        assertEquals(List.of(), list.range(31, 50).toList());
+        assertEquals(List.of(), list.range(50, 50).toList());
+        assertThrows(IllegalArgumentException.class, () -> list.range(70, 20));
+        assertThrows(IllegalArgumentException.class, () -> list.range(null, 20));
+    }
+
+    @Test
+    @DisplayName("Concurrent inserts of disjoint values should all be visible")
+    void concurrentInsertsShouldAllBeVisible() throws Exception {
+        runConcurrently(thread -> {
+            // Interleave the threads' values so they compete for the same neighbourhoods
+            for (int i = 0; i < VALUES_PER_THREAD; i++) {
+                assertTrue(list.insert(i * THREADS + thread));
+            }
+        });
+
+        int total = THREADS * VALUES_PER_THREAD;
+        assertEquals(total, list.size());
+        int expected = 0;
+        for (int value : list) {
+            assertEquals(expected++, value);
+        }
+        assertEquals(total, expected);
+    }
+
+    @Test
+    @DisplayName("Concurrent inserts and deletes on shared values should keep size consistent")
+    void concurrentInsertsAndDeletesShouldKeepSizeConsistent() throws Exception {
+        AtomicInteger inserted = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+
+        runConcurrently(thread -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < VALUES_PER_THREAD; i++) {
+                int value = random.nextInt(512);
+                if (random.nextBoolean()) {
+                    if (list.insert(value)) {
+                        inserted.incrementAndGet();
+                    }
+                } else if (list.delete(value)) {
+                    removed.incrementAndGet();
+                }
+            }
+        });
+
+        List<Integer> values = list.stream().toList();
+        assertEquals(inserted.get() - removed.get(), list.size());
+        assertEquals(list.size(), values.size());
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i - 1) < values.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Readers should always find values that are never removed")
+    void readersShouldSeeStableValues() throws Exception {
+        // Even values stay; writers churn the odd values between them
+        for (int value = 0; value < 2_000; value += 2) {
+            list.insert(value);
+        }
+
+        runConcurrently(thread -> {
+            if (thread % 2 == 0) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < VALUES_PER_THREAD; i++) {
+                    int value = random.nextInt(1_000) * 2 + 1;
+                    if (random.nextBoolean()) {
+                        list.insert(value);
+                    } else {
+                        list.delete(value);
+                    }
+                }
+            } else {
+                for (int round = 0; round < 20; round++) {
+                    for (int value = 0; value < 2_000; value += 2) {
+                        assertTrue(list.contains(value));
+                    }
+                    assertEquals(0, list.min());
+                    assertEquals(500, list.range(0, 1_000).filter(value -> value % 2 == 0).count());
+                }
+            }
+        });
+    }
+}
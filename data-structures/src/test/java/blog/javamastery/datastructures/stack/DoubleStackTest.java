@@ -0,0 +1,97 @@
+package blog.javamastery.datastructures.stack;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Double Stack operations")
+class DoubleStackTest {
+    private DoubleStack stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new DoubleStack();
+    }
+
+    @Test
+    @DisplayName("Stack should be empty when newly created")
+    void newStackShouldBeEmpty() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertThrows(IllegalStateException.class, stack::peek);
+        assertThrows(IllegalStateException.class, stack::pop);
+    }
+
+    @Test
+    @DisplayName("Pop should return values in LIFO order")
+    void popShouldReturnValuesInLifoOrder() {
+        stack.push(1.5);
+        stack.push(0.0);
+        stack.push(-3.25);
+
+        assertEquals(3, stack.size());
+        assertEquals(-3.25, stack.peek());
+        assertEquals(-3.25, stack.pop());
+        assertEquals(0.0, stack.pop());
+        assertEquals(1.5, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Stack should grow and shrink like SimpleStack")
+    void stackShouldResizeLikeSimpleStack() {
+        SimpleStack<Double> reference = new SimpleStack<>();
+        for (int i = 0; i < 1000; i++) {
+            stack.push(i);
+            reference.push((double) i);
+            assertEquals(reference.capacity(), stack.capacity());
+        }
+        while (!stack.isEmpty()) {
+            assertEquals(reference.pop(), stack.pop());
+            assertEquals(reference.capacity(), stack.capacity());
+        }
+    }
+
+    @Test
+    @DisplayName("Get should return the value at the index from the bottom")
+    void getShouldReturnValueAtIndex() {
+        stack.push(10);
+        stack.push(20);
+
+        assertEquals(10, stack.get(0));
+        assertEquals(20, stack.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.get(-1));
+    }
+
+    @Test
+    @DisplayName("Iterator should return values in LIFO order")
+    void iteratorShouldReturnValuesInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        var iterator = stack.iterator();
+        assertEquals(3, iterator.nextDouble());
+        assertEquals(2, iterator.nextDouble());
+        assertEquals(1, iterator.nextDouble());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextDouble);
+    }
+
+    @Test
+    @DisplayName("Stream should expose the values from the top down")
+    void streamShouldExposeValues() {
+        for (int i = 1; i <= 100; i++) {
+            stack.push(i);
+        }
+
+        assertArrayEquals(new double[]{100, 99, 98}, stack.stream().limit(3).toArray());
+        assertEquals(5050.0, stack.stream().sum());
+        assertEquals(50, stack.stream().filter(d -> d % 2 == 0).count());
+    }
+}
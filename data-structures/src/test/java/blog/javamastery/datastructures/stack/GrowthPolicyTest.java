@@ -0,0 +1,61 @@
+package blog.javamastery.datastructures.stack;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Growth Policy decisions")
+class GrowthPolicyTest {
+
+    @Test
+    @DisplayName("Default policy should double when full and halve when a quarter full")
+    void defaultPolicyShouldDoubleAndHalve() {
+        GrowthPolicy policy = GrowthPolicy.DEFAULT;
+
+        assertEquals(16, policy.minCapacity());
+        assertEquals(64, policy.grownCapacity(32, 33));
+        assertEquals(64, policy.shrunkCapacity(64, 17));
+        assertEquals(32, policy.shrunkCapacity(64, 16));
+        assertEquals(16, policy.shrunkCapacity(16, 0));
+    }
+
+    @Test
+    @DisplayName("Growth should reach the required capacity even for small factors")
+    void growthShouldReachRequiredCapacity() {
+        GrowthPolicy policy = new GrowthPolicy(1, 1.1, 4);
+
+        assertEquals(2, policy.grownCapacity(1, 2));
+        assertEquals(1000, policy.grownCapacity(10, 1000));
+        assertEquals(1, policy.grownCapacity(0, 1));
+    }
+
+    @Test
+    @DisplayName("Shrinking should never go below the minimum capacity or the size")
+    void shrinkingShouldRespectMinimumCapacity() {
+        GrowthPolicy policy = new GrowthPolicy(100, 4.0, 8);
+
+        assertEquals(100, policy.shrunkCapacity(256, 10));
+        assertEquals(250, policy.shrunkCapacity(1000, 125));
+        assertEquals(1000, policy.shrunkCapacity(1000, 126));
+    }
+
+    @Test
+    @DisplayName("Grow-only policy should never shrink")
+    void growOnlyPolicyShouldNeverShrink() {
+        GrowthPolicy policy = GrowthPolicy.growOnly(16, 2.0);
+
+        assertFalse(policy.shrinks());
+        assertEquals(1024, policy.shrunkCapacity(1024, 0));
+    }
+
+    @Test
+    @DisplayName("Invalid policies should be rejected")
+    void invalidPoliciesShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(0, 2.0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(16, 1.0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(16, Double.NaN, 4));
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(16, 2.0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(16, 2.0, -1));
+    }
+}
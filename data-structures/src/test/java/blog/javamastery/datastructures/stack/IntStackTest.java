@@ -0,0 +1,118 @@
+package blog.javamastery.datastructures.stack;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Int Stack operations")
+class IntStackTest {
+    private IntStack stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new IntStack();
+    }
+
+    @Test
+    @DisplayName("Stack should be empty when newly created")
+    void newStackShouldBeEmpty() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertThrows(IllegalStateException.class, stack::peek);
+        assertThrows(IllegalStateException.class, stack::pop);
+    }
+
+    @Test
+    @DisplayName("Pop should return values in LIFO order")
+    void popShouldReturnValuesInLifoOrder() {
+        stack.push(1);
+        stack.push(0);
+        stack.push(-3);
+
+        assertEquals(3, stack.size());
+        assertEquals(-3, stack.peek());
+        assertEquals(-3, stack.pop());
+        assertEquals(0, stack.pop());
+        assertEquals(1, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Stack should grow and shrink like SimpleStack")
+    void stackShouldResizeLikeSimpleStack() {
+        SimpleStack<Integer> reference = new SimpleStack<>();
+        for (int i = 0; i < 1000; i++) {
+            stack.push(i);
+            reference.push(i);
+            assertEquals(reference.capacity(), stack.capacity());
+        }
+        while (!stack.isEmpty()) {
+            assertEquals(reference.pop(), stack.pop());
+            assertEquals(reference.capacity(), stack.capacity());
+        }
+    }
+
+    @Test
+    @DisplayName("Get should return the value at the index from the bottom")
+    void getShouldReturnValueAtIndex() {
+        stack.push(10);
+        stack.push(20);
+
+        assertEquals(10, stack.get(0));
+        assertEquals(20, stack.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.get(-1));
+    }
+
+    @Test
+    @DisplayName("Iterator should return values in LIFO order")
+    void iteratorShouldReturnValuesInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        var iterator = stack.iterator();
+        assertEquals(3, iterator.nextInt());
+        assertEquals(2, iterator.nextInt());
+        assertEquals(1, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    @DisplayName("Stream should expose the values from the top down")
+    void streamShouldExposeValues() {
+        for (int i = 1; i <= 100; i++) {
+            stack.push(i);
+        }
+
+        assertArrayEquals(new int[]{100, 99, 98}, stack.stream().limit(3).toArray());
+        assertEquals(5050, stack.stream().sum());
+        assertEquals(50, stack.stream().filter(i -> i % 2 == 0).count());
+    }
+
+    @Test
+    @DisplayName("Stack should resize as its growth policy decides")
+    void stackShouldFollowGrowthPolicy() {
+        stack = new IntStack(new GrowthPolicy(4, 1.5, 3));
+        for (int i = 0; i < 5; i++) {
+            stack.push(i);
+        }
+        assertEquals(6, stack.capacity());
+        assertEquals(1, stack.getGrowCount());
+
+        stack.pop();
+        stack.pop();
+        stack.pop();
+        assertEquals(4, stack.capacity());
+        assertEquals(1, stack.getShrinkCount());
+
+        stack.trimToSize();
+        assertEquals(2, stack.capacity());
+        assertEquals(1, stack.pop());
+    }
+}
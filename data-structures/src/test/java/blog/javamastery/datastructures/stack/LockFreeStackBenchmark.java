@@ -0,0 +1,66 @@
+package blog.javamastery.datastructures.stack;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a free-list of reusable buffers shared by all benchmark threads: every operation
+ * pops a buffer (allocating one if the list is empty) and pushes it back. Compares a
+ * {@link SimpleStack} behind a global lock with {@link LockFreeStack}.
+ * <p>
+ * Scaling is visible by running with increasing thread counts, e.g.
+ * {@code mvn -Pbenchmark verify -Dbenchmark="LockFreeStackBenchmark -t 1"}, then {@code -t 2},
+ * {@code -t 4}, ... up to the number of cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class LockFreeStackBenchmark {
+    private static final int BUFFER_SIZE = 64;
+    private static final int POOLED_BUFFERS = 64;
+
+    private SimpleStack<byte[]> synchronizedStack;
+    private LockFreeStack<byte[]> lockFreeStack;
+
+    @Setup
+    public void setUp() {
+        synchronizedStack = new SimpleStack<>();
+        lockFreeStack = new LockFreeStack<>();
+        for (int i = 0; i < POOLED_BUFFERS; i++) {
+            synchronizedStack.push(new byte[BUFFER_SIZE]);
+            lockFreeStack.push(new byte[BUFFER_SIZE]);
+        }
+    }
+
+    @Benchmark
+    public byte[] synchronizedSimpleStack() {
+        byte[] buffer;
+        synchronized (synchronizedStack) {
+            buffer = synchronizedStack.pop();
+        }
+        if (buffer == null) {
+            buffer = new byte[BUFFER_SIZE];
+        }
+        buffer[0]++;
+        synchronized (synchronizedStack) {
+            synchronizedStack.push(buffer);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public byte[] lockFreeStack() {
+        byte[] buffer = lockFreeStack.pop();
+        if (buffer == null) {
+            buffer = new byte[BUFFER_SIZE];
+        }
+        buffer[0]++;
+        lockFreeStack.push(buffer);
+        return buffer;
+    }
+}
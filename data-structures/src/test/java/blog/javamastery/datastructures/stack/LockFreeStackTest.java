@@ -0,0 +1,107 @@
+package blog.javamastery.datastructures.stack;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static blog.javamastery.datastructures.common.ConcurrentTestSupport.THREADS;
+import static blog.javamastery.datastructures.common.ConcurrentTestSupport.runConcurrently;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Lock-Free Stack operations")
+class LockFreeStackTest {
+    private static final int ELEMENTS_PER_THREAD = 20_000;
+
+    private LockFreeStack<String> stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new LockFreeStack<>();
+    }
+
+    @Test
+    @DisplayName("Stack should be empty when newly created")
+    void newStackShouldBeEmpty() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertNull(stack.peek());
+        assertNull(stack.pop());
+    }
+
+    @Test
+    @DisplayName("Pop should return elements in LIFO order")
+    void popShouldReturnElementsInLifoOrder() {
+        stack.push("First");
+        stack.push("Second");
+        stack.push("Third");
+
+        assertEquals(3, stack.size());
+        assertEquals("Third", stack.peek());
+        assertEquals("Third", stack.pop());
+        assertEquals("Second", stack.pop());
+        assertEquals("First", stack.pop());
+        assertNull(stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Null elements should be rejected")
+    void nullElementsShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> stack.push(null));
+    }
+
+    @Test
+    @DisplayName("Concurrent pushes and pops should hand out every element exactly once")
+    void concurrentPushesAndPopsShouldHandOutEveryElementOnce() throws Exception {
+        LockFreeStack<Integer> shared = new LockFreeStack<>();
+        AtomicLongArray popped = new AtomicLongArray(THREADS * ELEMENTS_PER_THREAD);
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                shared.push(thread * ELEMENTS_PER_THREAD + i);
+                // Pop right away half of the time, which makes pushes and pops meet
+                if (i % 2 == 0) {
+                    Integer element = shared.pop();
+                    if (element != null) {
+                        popped.incrementAndGet(element);
+                    }
+                }
+            }
+        });
+
+        for (Integer element = shared.pop(); element != null; element = shared.pop()) {
+            popped.incrementAndGet(element);
+        }
+        for (int i = 0; i < popped.length(); i++) {
+            assertEquals(1, popped.get(i), "element " + i);
+        }
+        assertEquals(0, shared.size());
+    }
+
+    @Test
+    @DisplayName("A shared free-list should never hand one buffer to two threads")
+    void freeListShouldNeverShareBuffers() throws Exception {
+        LockFreeStack<int[]> freeList = new LockFreeStack<>();
+        for (int i = 0; i < THREADS; i++) {
+            freeList.push(new int[1]);
+        }
+
+        runConcurrently(thread -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                int[] buffer = freeList.pop();
+                if (buffer == null) {
+                    buffer = new int[1];
+                }
+                // Only the owner may touch the buffer until it goes back
+                buffer[0] = thread;
+                Thread.yield();
+                assertEquals(thread, buffer[0]);
+                freeList.push(buffer);
+            }
+        });
+
+        assertTrue(freeList.size() >= THREADS);
+    }
+}
@@ -0,0 +1,97 @@
+package blog.javamastery.datastructures.stack;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Long Stack operations")
+class LongStackTest {
+    private LongStack stack;
+
+    @BeforeEach
+    void setUp() {
+        stack = new LongStack();
+    }
+
+    @Test
+    @DisplayName("Stack should be empty when newly created")
+    void newStackShouldBeEmpty() {
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+        assertThrows(IllegalStateException.class, stack::peek);
+        assertThrows(IllegalStateException.class, stack::pop);
+    }
+
+    @Test
+    @DisplayName("Pop should return values in LIFO order")
+    void popShouldReturnValuesInLifoOrder() {
+        stack.push(Long.MAX_VALUE);
+        stack.push(0);
+        stack.push(Long.MIN_VALUE);
+
+        assertEquals(3, stack.size());
+        assertEquals(Long.MIN_VALUE, stack.peek());
+        assertEquals(Long.MIN_VALUE, stack.pop());
+        assertEquals(0, stack.pop());
+        assertEquals(Long.MAX_VALUE, stack.pop());
+        assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Stack should grow and shrink like SimpleStack")
+    void stackShouldResizeLikeSimpleStack() {
+        SimpleStack<Long> reference = new SimpleStack<>();
+        for (int i = 0; i < 1000; i++) {
+            stack.push(i);
+            reference.push((long) i);
+            assertEquals(reference.capacity(), stack.capacity());
+        }
+        while (!stack.isEmpty()) {
+            assertEquals(reference.pop(), stack.pop());
+            assertEquals(reference.capacity(), stack.capacity());
+        }
+    }
+
+    @Test
+    @DisplayName("Get should return the value at the index from the bottom")
+    void getShouldReturnValueAtIndex() {
+        stack.push(10);
+        stack.push(20);
+
+        assertEquals(10, stack.get(0));
+        assertEquals(20, stack.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> stack.get(-1));
+    }
+
+    @Test
+    @DisplayName("Iterator should return values in LIFO order")
+    void iteratorShouldReturnValuesInLifoOrder() {
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+
+        var iterator = stack.iterator();
+        assertEquals(3, iterator.nextLong());
+        assertEquals(2, iterator.nextLong());
+        assertEquals(1, iterator.nextLong());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextLong);
+    }
+
+    @Test
+    @DisplayName("Stream should expose the values from the top down")
+    void streamShouldExposeValues() {
+        for (int i = 1; i <= 100; i++) {
+            stack.push(i);
+        }
+
+        assertArrayEquals(new long[]{100, 99, 98}, stack.stream().limit(3).toArray());
+        assertEquals(5050, stack.stream().sum());
+        assertEquals(50, stack.stream().filter(i -> i % 2 == 0).count());
+    }
+}
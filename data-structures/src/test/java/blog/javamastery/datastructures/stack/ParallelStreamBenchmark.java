@@ -0,0 +1,78 @@
+package blog.javamastery.datastructures.stack;
+
+import blog.javamastery.datastructures.common.Streamable;
+import blog.javamastery.datastructures.queue.SimpleQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Runs a map/reduce over 10 million elements of a {@link SimpleStack} and a {@link SimpleQueue}:
+ * sequentially, in parallel through their own spliterators, and in parallel through the
+ * unknown-size iterator spliterator that {@code Iterable} provides by default.
+ * <p>
+ * The parallel speedup grows with the number of cores; on a single core the parallel runs only
+ * pay for splitting, which for the queue means walking its nodes once more.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=ParallelStreamBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class ParallelStreamBenchmark {
+    private static final int SIZE = 10_000_000;
+
+    @Param({"stack", "queue"})
+    private String collection;
+
+    private Streamable<Integer> elements;
+    private Iterable<Integer> iterable;
+
+    @Setup
+    public void setUp() {
+        if (collection.equals("stack")) {
+            SimpleStack<Integer> stack = new SimpleStack<>();
+            for (int i = 0; i < SIZE; i++) {
+                stack.push(i);
+            }
+            elements = stack;
+            iterable = stack;
+        } else {
+            SimpleQueue<Integer> queue = new SimpleQueue<>();
+            for (int i = 0; i < SIZE; i++) {
+                queue.enqueue(i);
+            }
+            elements = queue;
+            iterable = queue;
+        }
+    }
+
+    // A few multiplications per element, so the reduction is not purely memory-bound
+    private static long mix(int value) {
+        long x = value * 0x9E3779B97F4A7C15L;
+        x = (x ^ (x >>> 32)) * 0xD6E8FEB86659FD93L;
+        return x ^ (x >>> 32);
+    }
+
+    @Benchmark
+    public long sequential() {
+        return elements.stream().mapToLong(ParallelStreamBenchmark::mix).sum();
+    }
+
+    @Benchmark
+    public long parallel() {
+        return elements.parallelStream().mapToLong(ParallelStreamBenchmark::mix).sum();
+    }
+
+    @Benchmark
+    public long parallelIteratorSpliterator() {
+        Spliterator<Integer> spliterator = Spliterators.spliteratorUnknownSize(iterable.iterator(), Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, true).mapToLong(ParallelStreamBenchmark::mix).sum();
+    }
+}
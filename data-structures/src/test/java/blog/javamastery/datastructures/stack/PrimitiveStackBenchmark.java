@@ -0,0 +1,96 @@
+package blog.javamastery.datastructures.stack;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates a postfix expression of additions and subtractions, as an expression evaluator
+ * does, comparing a boxed {@link SimpleStack} with {@link IntStack}. Operands lie outside the
+ * {@code Integer} cache, so every boxed push allocates. Running with {@code -prof gc} shows
+ * the per-token allocation as well.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark="PrimitiveStackBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveStackBenchmark {
+    private static final int TOKENS = 10_000;
+    private static final int ADD = -1;
+    private static final int SUBTRACT = -2;
+
+    /**
+     * The deepest the stack gets while evaluating the expression.
+     */
+    @Param({"8", "1024"})
+    private int maximumDepth;
+
+    // Operands are non-negative, operators are the negative codes above
+    private int[] program;
+    private SimpleStack<Integer> boxed;
+    private IntStack primitive;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        program = new int[TOKENS];
+        int depth = 0;
+        for (int i = 0; i < TOKENS; i++) {
+            int remaining = TOKENS - i;
+            // Push while there is room and enough tokens left to reduce the stack to one value
+            boolean push = depth < 2 || (depth < maximumDepth && remaining > depth && random.nextBoolean());
+            if (push) {
+                program[i] = 1_000 + random.nextInt(1_000_000);
+                depth++;
+            } else {
+                program[i] = random.nextBoolean() ? ADD : SUBTRACT;
+                depth--;
+            }
+        }
+        boxed = new SimpleStack<>();
+        primitive = new IntStack();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOKENS)
+    public int boxedSimpleStack() {
+        for (int token : program) {
+            if (token >= 0) {
+                boxed.push(token);
+            } else {
+                int right = boxed.pop();
+                int left = boxed.pop();
+                boxed.push(token == ADD ? left + right : left - right);
+            }
+        }
+        int result = 0;
+        while (!boxed.isEmpty()) {
+            result += boxed.pop();
+        }
+        return result;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TOKENS)
+    public int intStack() {
+        for (int token : program) {
+            if (token >= 0) {
+                primitive.push(token);
+            } else {
+                int right = primitive.pop();
+                int left = primitive.pop();
+                primitive.push(token == ADD ? left + right : left - right);
+            }
+        }
+        int result = 0;
+        while (!primitive.isEmpty()) {
+            result += primitive.pop();
+        }
+        return result;
+    }
+}
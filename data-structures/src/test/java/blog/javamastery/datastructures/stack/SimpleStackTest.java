@@ -4,7 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -140,4 +144,120 @@ class SimpleStackTest {
 
         assertThrows(IndexOutOfBoundsException.class, () -> stack.get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Size oscillating inside the hysteresis gap should not resize")
+    void oscillationInsideGapShouldNotResize() {
+        for (int i = 0; i < 33; i++) {
+            stack.push(String.valueOf(i));
+        }
+        long grows = stack.getGrowCount();
+
+        // Capacity 64 shrinks at 16 and the halved array only grows again above 32
+        for (int round = 0; round < 100; round++) {
+            while (stack.size() > 16) {
+                stack.pop();
+            }
+            while (stack.size() < 32) {
+                stack.push("Element");
+            }
+        }
+
+        assertEquals(32, stack.capacity());
+        assertEquals(grows, stack.getGrowCount());
+        assertEquals(1, stack.getShrinkCount());
+    }
+
+    @Test
+    @DisplayName("Resize counters should track every reallocation")
+    void resizeCountersShouldTrackReallocations() {
+        for (int i = 0; i < 17; i++) {
+            stack.push(String.valueOf(i));
+        }
+        assertEquals(1, stack.getGrowCount());
+        assertEquals(16, stack.getCopiedElements());
+
+        while (stack.size() > 8) {
+            stack.pop();
+        }
+        assertEquals(1, stack.getShrinkCount());
+        assertEquals(24, stack.getCopiedElements());
+        assertEquals(16, stack.capacity());
+    }
+
+    @Test
+    @DisplayName("Grow-only stack should keep its capacity until trimmed")
+    void growOnlyStackShouldKeepCapacityUntilTrimmed() {
+        stack = new SimpleStack<>(GrowthPolicy.growOnly(4, 1.5));
+        for (int i = 0; i < 100; i++) {
+            stack.push(String.valueOf(i));
+        }
+        int capacity = stack.capacity();
+        while (stack.size() > 3) {
+            stack.pop();
+        }
+
+        assertEquals(capacity, stack.capacity());
+        assertEquals(0, stack.getShrinkCount());
+
+        stack.trimToSize();
+        assertEquals(3, stack.capacity());
+        assertEquals("2", stack.pop());
+        stack.push("Again");
+        stack.push("More");
+        assertEquals("More", stack.peek());
+    }
+
+    @Test
+    @DisplayName("Ensure capacity should allocate once for the whole batch")
+    void ensureCapacityShouldAllocateOnce() {
+        stack.ensureCapacity(1000);
+        assertTrue(stack.capacity() >= 1000);
+        assertEquals(1, stack.getGrowCount());
+
+        for (int i = 0; i < 1000; i++) {
+            stack.push(String.valueOf(i));
+        }
+        assertEquals(1, stack.getGrowCount());
+    }
+
+    @Test
+    @DisplayName("Null growth policy should be rejected")
+    void nullGrowthPolicyShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new SimpleStack<String>(null));
+    }
+
+    @Test
+    @DisplayName("Parallel streams should keep the LIFO encounter order")
+    void parallelStreamShouldKeepOrder() {
+        for (int i = 0; i < 10_000; i++) {
+            stack.push(String.valueOf(i));
+        }
+        List<String> expected = IntStream.range(0, 10_000).map(i -> 9_999 - i).mapToObj(String::valueOf).toList();
+
+        assertEquals(expected, stack.parallelStream().toList());
+        assertEquals(10_000L * 9_999 / 2, stack.parallelStream().mapToLong(Long::parseLong).sum());
+    }
+
+    @Test
+    @DisplayName("Spliterator halves should know their sizes and cover every element in order")
+    void spliteratorHalvesShouldCoverEveryElement() {
+        for (int i = 0; i < 5; i++) {
+            stack.push(String.valueOf(i));
+        }
+
+        Spliterator<String> suffix = stack.spliterator();
+        assertTrue(suffix.hasCharacteristics(Spliterator.SUBSIZED));
+        Spliterator<String> prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        assertEquals(3, prefix.getExactSizeIfKnown());
+        assertEquals(2, suffix.getExactSizeIfKnown());
+
+        List<String> seen = new ArrayList<>();
+        prefix.forEachRemaining(seen::add);
+        while (suffix.tryAdvance(seen::add)) {
+            // Drain one element at a time
+        }
+        assertEquals(List.of("4", "3", "2", "1", "0"), seen);
+    }
+}
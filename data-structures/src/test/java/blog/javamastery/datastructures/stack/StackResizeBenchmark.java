@@ -0,0 +1,73 @@
+package blog.javamastery.datastructures.stack;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the resize churn of {@link SimpleStack} under different {@link GrowthPolicy}s.
+ * <p>
+ * The oscillating workload swings the size between {@code LOW} and {@code HIGH}, which lie
+ * just outside the default policy's hysteresis gap: every swing shrinks the array at the
+ * bottom and grows it again at the top. The fill-and-drain workload empties the stack from
+ * {@code HIGH} and fills it again. The resize counters of each trial are printed at its end.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=StackResizeBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackResizeBenchmark {
+    // A default stack holding HIGH elements has 8192 slots and shrinks at a quarter of that
+    private static final int HIGH = 4097;
+    private static final int LOW = 2048;
+    private static final Integer ELEMENT = 42;
+
+    @Param({"default", "lazyShrink", "growOnly"})
+    private String policy;
+
+    @Param({"oscillating", "fillAndDrain"})
+    private String workload;
+
+    private SimpleStack<Integer> stack;
+    private int bottom;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stack = new SimpleStack<>(switch (policy) {
+            case "default" -> GrowthPolicy.DEFAULT;
+            case "lazyShrink" -> new GrowthPolicy(16, 2.0, 8);
+            case "growOnly" -> GrowthPolicy.growOnly(16, 2.0);
+            default -> throw new IllegalArgumentException("Unknown policy: " + policy);
+        });
+        bottom = workload.equals("oscillating") ? LOW : 0;
+        for (int i = 0; i < HIGH; i++) {
+            stack.push(ELEMENT);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printCounters() {
+        System.out.printf("%n%s/%s: %d grows, %d shrinks, %d elements copied%n", policy, workload,
+                stack.getGrowCount(), stack.getShrinkCount(), stack.getCopiedElements());
+    }
+
+    /**
+     * Pops down to the bottom of the swing and pushes back up; the score is per push or pop.
+     */
+    @Benchmark
+    @OperationsPerInvocation(2 * HIGH)
+    public int swing() {
+        int sum = 0;
+        while (stack.size() > bottom) {
+            sum += stack.pop();
+        }
+        while (stack.size() < HIGH) {
+            stack.push(ELEMENT);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,72 @@
+package blog.javamastery.datastructures.tree;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AVL Tree Operations")
+class AvlTreeTest extends BinarySearchTreeTest {
+
+    @Override
+    protected BinarySearchTree<Integer> createTree() {
+        return new AvlTree<>();
+    }
+
+    private static int maximumHeight(int size) {
+        return (int) (1.44 * (Math.log(size + 2) / Math.log(2)));
+    }
+
+    @Test
+    @DisplayName("Sorted insertions should build a nearly perfect tree")
+    void sortedInsertionsShouldBuildNearlyPerfectTree() {
+        for (int i = 0; i < 100_000; i++) {
+            tree.insert(i);
+        }
+
+        assertEquals(100_000, tree.size());
+        // Sequential input fills the tree level by level
+        assertEquals(16, tree.height());
+        assertTrue(tree.isValidBST());
+    }
+
+    @Test
+    @DisplayName("Random insertions and deletions should match a TreeSet")
+    void randomOperationsShouldMatchTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                tree.delete(value);
+                expected.remove(value);
+            } else {
+                tree.insert(value);
+                expected.add(value);
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected), tree.traverse(BinarySearchTree.TraversalOrder.INORDER));
+        assertTrue(tree.height() <= maximumHeight(expected.size()));
+        assertTrue(tree.isValidBST());
+    }
+
+    @Test
+    @DisplayName("Descending insertions should keep the height logarithmic")
+    void descendingInsertionsShouldKeepHeightLogarithmic() {
+        for (int i = 10_000; i > 0; i--) {
+            tree.insert(i);
+        }
+        for (int i = 1; i <= 10_000; i += 3) {
+            tree.delete(i);
+        }
+
+        assertTrue(tree.height() <= maximumHeight(tree.size()));
+        assertEquals(6_666, tree.size());
+    }
+}
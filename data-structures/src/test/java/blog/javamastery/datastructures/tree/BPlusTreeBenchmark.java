@@ -0,0 +1,93 @@
+package blog.javamastery.datastructures.tree;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups and range scans on 10M keys between a {@link BinarySearchTree} and a
+ * {@link BPlusTree}. Both are filled with the same shuffled keys, so the binary tree stays
+ * reasonably shallow; the difference left is one node per value against dozens of values
+ * per node, and pointer chasing against walking the leaf list.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=BPlusTreeBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class BPlusTreeBenchmark {
+
+    private static final int SIZE = 10_000_000;
+    private static final int RANGE_WIDTH = 1_000;
+
+    @Param({"binarySearchTree", "bPlusTree"})
+    private String variant;
+
+    private BinarySearchTree<Integer> binarySearchTree;
+    private BPlusTree<Integer> bPlusTree;
+    private Integer[] lookups;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Integer[] keys = new Integer[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = i;
+        }
+        for (int i = SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Integer swap = keys[i];
+            keys[i] = keys[j];
+            keys[j] = swap;
+        }
+
+        if (variant.equals("binarySearchTree")) {
+            binarySearchTree = new BinarySearchTree<>();
+            for (Integer key : keys) {
+                binarySearchTree.insert(key);
+            }
+        } else {
+            bPlusTree = new BPlusTree<>();
+            for (Integer key : keys) {
+                bPlusTree.insert(key);
+            }
+        }
+
+        lookups = new Integer[1024];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = random.nextInt(SIZE - RANGE_WIDTH);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printHeight() {
+        int height = binarySearchTree != null ? binarySearchTree.height() : bPlusTree.height();
+        System.out.printf("%n%s of %d shuffled keys has height %d%n", variant, SIZE, height);
+    }
+
+    private Integer nextLookup() {
+        Integer value = lookups[cursor];
+        cursor = (cursor + 1) & (lookups.length - 1);
+        return value;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        Integer value = nextLookup();
+        return binarySearchTree != null ? binarySearchTree.contains(value) : bPlusTree.contains(value);
+    }
+
+    @Benchmark
+    public long rangeScan() {
+        Integer from = nextLookup();
+        Integer to = from + RANGE_WIDTH;
+        return (binarySearchTree != null ? binarySearchTree.range(from, to) : bPlusTree.range(from, to))
+                .mapToLong(Integer::longValue)
+                .sum();
+    }
+}
@@ -0,0 +1,269 @@
+package blog.javamastery.datastructures.tree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("B+ Tree Operations")
+class BPlusTreeTest {
+    // A small order forces splits, borrows and merges with only a handful of values
+    private static final int ORDER = 4;
+
+    private BPlusTree<Integer> tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = new BPlusTree<>(ORDER);
+    }
+
+    @Test
+    @DisplayName("Tree should be able to insert and find values")
+    void shouldInsertAndFindValue() {
+        for (int value : List.of(50, 30, 70, 20, 40, 60, 80)) {
+            tree.insert(value);
+        }
+
+        assertTrue(tree.contains(40));
+        assertTrue(tree.contains(80));
+        assertFalse(tree.contains(45));
+        assertEquals(7, tree.size());
+        assertTrue(tree.isValid());
+    }
+
+    @Test
+    @DisplayName("Size should ignore duplicates and missing values")
+    void sizeShouldIgnoreDuplicatesAndMissingValues() {
+        assertEquals(0, tree.size());
+        tree.insert(10);
+        tree.insert(10);
+        tree.delete(20);
+        assertEquals(1, tree.size());
+        tree.delete(10);
+        assertEquals(0, tree.size());
+        assertEquals(-1, tree.height());
+    }
+
+    @Test
+    @DisplayName("Order should be at least three")
+    void orderShouldBeAtLeastThree() {
+        assertThrows(IllegalArgumentException.class, () -> new BPlusTree<Integer>(2));
+        assertEquals(3, new BPlusTree<Integer>(3).getOrder());
+    }
+
+    @Test
+    @DisplayName("Min and max should return the extreme values")
+    void minAndMaxShouldReturnExtremeValues() {
+        assertThrows(IllegalStateException.class, () -> tree.min());
+        assertThrows(IllegalStateException.class, () -> tree.max());
+
+        for (int value : List.of(50, 30, 70, 20, 40, 60, 80, 10, 90)) {
+            tree.insert(value);
+        }
+
+        assertEquals(10, tree.min());
+        assertEquals(90, tree.max());
+    }
+
+    @Test
+    @DisplayName("Sorted insertions should keep every leaf at the same logarithmic depth")
+    void sortedInsertionsShouldKeepHeightLogarithmic() {
+        BPlusTree<Integer> wide = new BPlusTree<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            wide.insert(i);
+        }
+
+        assertEquals(1_000_000, wide.size());
+        // Half-full nodes of order 64 hold at least 31 values or 32 children
+        assertTrue(wide.height() <= 4, "height " + wide.height());
+        assertTrue(wide.isValid());
+    }
+
+    @Test
+    @DisplayName("Random insertions and deletions should match a TreeSet")
+    void randomOperationsShouldMatchTreeSet() {
+        for (int order : List.of(3, 4, 5, 16)) {
+            BPlusTree<Integer> tree = new BPlusTree<>(order);
+            Random random = new Random(42);
+            TreeSet<Integer> expected = new TreeSet<>();
+
+            for (int i = 0; i < 20_000; i++) {
+                int value = random.nextInt(2_000);
+                if (random.nextInt(3) == 0) {
+                    tree.delete(value);
+                    expected.remove(value);
+                } else {
+                    tree.insert(value);
+                    expected.add(value);
+                }
+            }
+
+            assertEquals(new ArrayList<>(expected), tree.stream().toList(), "order " + order);
+            assertEquals(expected.size(), tree.size());
+            assertTrue(tree.isValid(), "order " + order);
+        }
+    }
+
+    @Test
+    @DisplayName("Deleting every value should leave an empty tree")
+    void deletingEveryValueShouldLeaveEmptyTree() {
+        List<Integer> values = new ArrayList<>(IntStream.range(0, 5_000).boxed().toList());
+        values.forEach(tree::insert);
+        Collections.shuffle(values, new Random(7));
+
+        for (int i = 0; i < values.size(); i++) {
+            tree.delete(values.get(i));
+            if (i % 500 == 0) {
+                assertTrue(tree.isValid());
+            }
+        }
+
+        assertEquals(0, tree.size());
+        assertEquals(-1, tree.height());
+        assertFalse(tree.iterator().hasNext());
+        assertTrue(tree.isValid());
+    }
+
+    @Test
+    @DisplayName("Iterator should walk the leaves in sorted order")
+    void iteratorShouldYieldSortedValues() {
+        for (int value : List.of(50, 30, 70, 20, 40, 60, 80)) {
+            tree.insert(value);
+        }
+
+        Iterator<Integer> iterator = tree.iterator();
+        List<Integer> values = new ArrayList<>();
+        while (iterator.hasNext()) {
+            values.add(iterator.next());
+        }
+
+        assertEquals(List.of(20, 30, 40, 50, 60, 70, 80), values);
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(7, tree.spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    @DisplayName("Bulk loading should build a valid tree from sorted values")
+    void fromSortedShouldBuildValidTree() {
+        for (int size : List.of(0, 1, 3, 4, 10, 1_000, 12_345)) {
+            List<Integer> values = IntStream.range(0, size).map(i -> i * 2).boxed().toList();
+            BPlusTree<Integer> loaded = BPlusTree.fromSorted(values, ORDER);
+
+            assertEquals(size, loaded.size());
+            assertEquals(values, loaded.stream().toList());
+            assertTrue(loaded.isValid(), "size " + size);
+        }
+    }
+
+    @Test
+    @DisplayName("A bulk-loaded tree should accept further updates")
+    void fromSortedTreeShouldAcceptUpdates() {
+        BPlusTree<Integer> loaded = BPlusTree.fromSorted(IntStream.range(0, 1_000).boxed().toList(), ORDER);
+
+        for (int i = 0; i < 1_000; i += 2) {
+            loaded.delete(i);
+        }
+        loaded.insert(-1);
+        loaded.insert(5_000);
+
+        assertEquals(502, loaded.size());
+        assertEquals(-1, loaded.min());
+        assertEquals(5_000, loaded.max());
+        assertFalse(loaded.contains(500));
+        assertTrue(loaded.contains(501));
+        assertTrue(loaded.isValid());
+    }
+
+    @Test
+    @DisplayName("Bulk loading should reject unsorted or duplicate values")
+    void fromSortedShouldRejectUnsortedValues() {
+        assertThrows(IllegalArgumentException.class, () -> BPlusTree.fromSorted(List.of(1, 3, 2)));
+        assertThrows(IllegalArgumentException.class, () -> BPlusTree.fromSorted(List.of(1, 2, 2)));
+    }
+
+    @Test
+    @DisplayName("Floor, ceiling, higher and lower should find the nearest values")
+    void navigationShouldFindNearestValues() {
+        assertNull(tree.floor(5));
+        assertNull(tree.ceiling(5));
+
+        for (int value : List.of(50, 20, 80, 10, 30, 70, 90)) {
+            tree.insert(value);
+        }
+
+        assertEquals(30, tree.floor(30));
+        assertEquals(30, tree.floor(35));
+        assertNull(tree.floor(5));
+        assertEquals(30, tree.ceiling(30));
+        assertEquals(50, tree.ceiling(31));
+        assertNull(tree.ceiling(95));
+        assertEquals(50, tree.higher(30));
+        assertNull(tree.higher(90));
+        assertEquals(20, tree.lower(30));
+        assertNull(tree.lower(10));
+        assertEquals(90, tree.lower(1_000));
+    }
+
+    @Test
+    @DisplayName("Navigation should cross leaf boundaries like a TreeSet")
+    void navigationShouldMatchTreeSet() {
+        Random random = new Random(3);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 500; i++) {
+            int value = random.nextInt(5_000);
+            tree.insert(value);
+            expected.add(value);
+        }
+
+        for (int probe = -1; probe <= 5_000; probe++) {
+            assertEquals(expected.floor(probe), tree.floor(probe));
+            assertEquals(expected.ceiling(probe), tree.ceiling(probe));
+            assertEquals(expected.higher(probe), tree.higher(probe));
+            assertEquals(expected.lower(probe), tree.lower(probe));
+        }
+    }
+
+    @Test
+    @DisplayName("Range should stream the values between the bounds in order")
+    void rangeShouldStreamValuesBetweenBounds() {
+        assertEquals(List.of(), tree.range(0, 100).toList());
+
+        for (int value : List.of(50, 20, 80, 10, 30, 70, 90)) {
+            tree.insert(value);
+        }
+
+        assertEquals(List.of(20, 30, 50), tree.range(20, 70).toList());
+        assertEquals(List.of(30, 50, 70), tree.range(25, 71).toList());
+        assertEquals(List.of(10, 20, 30, 50, 70, 80, 90), tree.range(0, 100).toList());
+        assertEquals(List.of(), tree.range(31, 50).toList());
+        assertEquals(List.of(), tree.range(50, 50).toList());
+        assertThrows(IllegalArgumentException.class, () -> tree.range(70, 20));
+        assertThrows(IllegalArgumentException.class, () -> tree.range(null, 20));
+    }
+
+    @Test
+    @DisplayName("Range should agree with filtering a full traversal")
+    void rangeShouldAgreeWithFilteredTraversal() {
+        Random random = new Random(11);
+        for (int i = 0; i < 2_000; i++) {
+            tree.insert(random.nextInt(10_000));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(10_000);
+            int to = from + random.nextInt(500);
+            List<Integer> expected = tree.stream().filter(value -> value >= from && value < to).toList();
+            assertEquals(expected, tree.range(from, to).toList());
+        }
+    }
+}
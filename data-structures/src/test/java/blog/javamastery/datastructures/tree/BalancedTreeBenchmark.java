@@ -0,0 +1,60 @@
+package blog.javamastery.datastructures.tree;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code contains} on trees built from sorted input. The plain {@link BinarySearchTree}
+ * degenerates into a linked list of height n - 1, while {@link RedBlackTree} and {@link AvlTree}
+ * stay O(log n) high; the heights are printed at the end of each trial.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=BalancedTreeBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BalancedTreeBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"unbalanced", "redBlack", "avl"})
+    private String variant;
+
+    private BinarySearchTree<Integer> tree;
+    private Integer[] lookups;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tree = switch (variant) {
+            case "unbalanced" -> new BinarySearchTree<>();
+            case "redBlack" -> new RedBlackTree<>();
+            default -> new AvlTree<>();
+        };
+        for (int i = 0; i < size; i++) {
+            tree.insert(i);
+        }
+
+        lookups = new Integer[1024];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = (int) ((long) i * size / lookups.length);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printHeight() {
+        System.out.printf("%n%s tree of %d sorted values has height %d%n", variant, size, tree.height());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        Integer value = lookups[cursor];
+        cursor = (cursor + 1) & (lookups.length - 1);
+        return tree.contains(value);
+    }
+}
@@ -4,17 +4,32 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Binary Search Tree Operations")
 class BinarySearchTreeTest {
-    private BinarySearchTree<Integer> tree;
+    protected BinarySearchTree<Integer> tree;
 
     @BeforeEach
     void setUp() {
-        tree = new BinarySearchTree<>();
+        tree = createTree();
+    }
+
+    /**
+     * Creates the tree under test; the balanced variants override this
+     * to run against the same contract.
+     */
+    protected BinarySearchTree<Integer> createTree() {
+        return new BinarySearchTree<>();
     }
 
     @Test
@@ -220,4 +235,263 @@ class BinarySearchTreeTest {
         assertTrue(tree.contains(7));
         assertEquals(List.of(3, 7), tree.traverse(BinarySearchTree.TraversalOrder.INORDER));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Iterator should yield values in sorted order")
+    void iteratorShouldYieldSortedValues() {
+        tree.insert(5);
+        tree.insert(3);
+        tree.insert(7);
+        tree.insert(1);
+        tree.insert(4);
+        tree.insert(9);
+
+        Iterator<Integer> iterator = tree.iterator();
+        for (int expected : List.of(1, 3, 4, 5, 7, 9)) {
+            assertTrue(iterator.hasNext());
+            assertEquals(expected, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    @DisplayName("Stream should be lazy and sorted")
+    void streamShouldBeLazyAndSorted() {
+        for (int value : List.of(50, 20, 80, 10, 30, 70, 90)) {
+            tree.insert(value);
+        }
+
+        assertEquals(List.of(10, 20, 30), tree.stream().limit(3).collect(Collectors.toList()));
+        assertEquals(List.of(70, 80, 90), tree.stream().filter(value -> value > 60).toList());
+        assertEquals(350, tree.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    @DisplayName("A million sequential inserts should not overflow the stack")
+    void sequentialInsertsShouldNotOverflowStack() {
+        int count = 1_000_000;
+        for (int i = 0; i < count; i++) {
+            tree.insert(i);
+        }
+
+        assertEquals(count, tree.size());
+        assertTrue(tree.contains(count - 1));
+        assertFalse(tree.contains(count));
+        assertEquals(0, tree.min());
+        assertEquals(count - 1, tree.max());
+        assertTrue(tree.isValidBST());
+        assertTrue(tree.height() < count);
+
+        assertEquals(count, tree.traverse(BinarySearchTree.TraversalOrder.PREORDER).size());
+        assertEquals(count, tree.traverse(BinarySearchTree.TraversalOrder.POSTORDER).size());
+
+        tree.delete(0);
+        tree.delete(count / 2);
+        tree.delete(count - 1);
+        assertEquals(count - 3, tree.size());
+        assertFalse(tree.contains(count / 2));
+        assertEquals(1, tree.stream().findFirst().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Descending inserts should not overflow the stack")
+    void descendingInsertsShouldNotOverflowStack() {
+        int count = 50_000;
+        for (int i = count; i > 0; i--) {
+            tree.insert(i);
+        }
+
+        assertEquals(count, tree.size());
+        assertEquals(1, tree.min());
+        assertEquals(count, tree.traverse(BinarySearchTree.TraversalOrder.INORDER).get(count - 1));
+        assertEquals(count, tree.traverse(BinarySearchTree.TraversalOrder.POSTORDER).size());
+        assertTrue(tree.isValidBST());
+    }
+
+    @Test
+    @DisplayName("fromSorted should build a perfectly balanced tree")
+    void fromSortedShouldBuildBalancedTree() {
+        List<Integer> values = IntStream.range(0, 1_000_000).boxed().toList();
+        BinarySearchTree<Integer> loaded = BinarySearchTree.fromSorted(values);
+
+        assertEquals(1_000_000, loaded.size());
+        assertEquals(19, loaded.height());
+        assertEquals(values, loaded.traverse(BinarySearchTree.TraversalOrder.INORDER));
+        assertEquals(123_456, loaded.select(123_456));
+        assertEquals(500_000, loaded.rank(500_000));
+        assertTrue(loaded.isValidBST());
+
+        loaded.insert(1_000_000);
+        loaded.insert(-1);
+        loaded.delete(0);
+        assertEquals(1_000_001, loaded.size());
+        assertEquals(-1, loaded.min());
+        assertEquals(1_000_000, loaded.max());
+        assertEquals(1, loaded.select(1));
+    }
+
+    @Test
+    @DisplayName("fromSorted should accept arrays and reject unsorted input")
+    void fromSortedShouldValidateInput() {
+        BinarySearchTree<Integer> loaded = BinarySearchTree.fromSorted(new Integer[]{1, 2, 3, 4, 5, 6, 7});
+        assertEquals(2, loaded.height());
+        assertEquals(List.of(4, 2, 1, 3, 6, 5, 7), loaded.traverse(BinarySearchTree.TraversalOrder.PREORDER));
+
+        assertEquals(-1, BinarySearchTree.fromSorted(List.<Integer>of()).height());
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.fromSorted(List.of(1, 3, 2)));
+        assertThrows(IllegalArgumentException.class, () -> BinarySearchTree.fromSorted(new Integer[]{1, 1}));
+    }
+
+    @Test
+    @DisplayName("Rebalance should keep the values and bound the height")
+    void rebalanceShouldKeepValuesAndBoundHeight() {
+        tree.rebalance();
+        assertEquals(0, tree.size());
+
+        for (int i = 0; i < 1_000; i++) {
+            tree.insert(i);
+        }
+        tree.delete(500);
+        tree.rebalance();
+
+        assertEquals(999, tree.size());
+        assertTrue(tree.height() <= 18, "height " + tree.height());
+        assertEquals(499, tree.select(499));
+        assertEquals(501, tree.select(500));
+        assertEquals(500, tree.rank(501));
+        assertEquals(List.of(498, 499, 501), tree.range(498, 502).toList());
+        assertTrue(tree.isValidBST());
+
+        tree.insert(1_000);
+        tree.insert(500);
+        assertEquals(1_001, tree.size());
+        assertEquals(1_000, tree.max());
+    }
+
+    @Test
+    @DisplayName("Size should ignore duplicates and missing values")
+    void sizeShouldIgnoreDuplicatesAndMissingValues() {
+        tree.insert(5);
+        tree.insert(3);
+        tree.insert(5);
+        tree.insert(3);
+        tree.delete(4);
+
+        assertEquals(2, tree.size());
+        assertEquals(2, tree.stream().count());
+    }
+
+    @Test
+    @DisplayName("Select should return the k-th smallest value")
+    void selectShouldReturnKthSmallestValue() {
+        for (int value : List.of(50, 20, 80, 10, 30, 70, 90)) {
+            tree.insert(value);
+        }
+
+        assertEquals(10, tree.select(0));
+        assertEquals(50, tree.select(3));
+        assertEquals(90, tree.select(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(-1));
+
+        tree.delete(20);
+        assertEquals(30, tree.select(1));
+    }
+
+    @Test
+    @DisplayName("Rank should count the smaller values")
+    void rankShouldCountSmallerValues() {
+        assertEquals(0, tree.rank(42));
+
+        for (int value : List.of(50, 20, 80, 10, 30, 70, 90)) {
+            tree.insert(value);
+        }
+
+        assertEquals(0, tree.rank(10));
+        assertEquals(3, tree.rank(50));
+        assertEquals(4, tree.rank(60));
+        assertEquals(7, tree.rank(100));
+    }
+
+    @Test
+    @DisplayName("Order statistics should stay correct under random updates")
+    void orderStatisticsShouldSurviveRandomUpdates() {
+        Random random = new Random(7);
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            int value = random.nextInt(1_000);
+            if (random.nextInt(3) == 0) {
+                tree.delete(value);
+                expected.remove(value);
+            } else {
+                tree.insert(value);
+                expected.add(value);
+            }
+        }
+
+        assertEquals(expected.size(), tree.size());
+        List<Integer> sorted = new ArrayList<>(expected);
+        for (int k = 0; k < sorted.size(); k++) {
+            assertEquals(sorted.get(k), tree.select(k));
+            assertEquals(k, tree.rank(sorted.get(k)));
+        }
+    }
+
+    @Test
+    @DisplayName("Floor, ceiling, higher and lower should find the nearest values")
+    void navigationShouldFindNearestValues() {
+        assertNull(tree.floor(5));
+        assertNull(tree.ceiling(5));
+
+        for (int value : List.of(50, 20, 80, 10, 30, 70, 90)) {
+            tree.insert(value);
+        }
+
+        assertEquals(30, tree.floor(30));
+        assertEquals(30, tree.floor(35));
+        assertNull(tree.floor(5));
+        assertEquals(30, tree.ceiling(30));
+        assertEquals(50, tree.ceiling(31));
+        assertNull(tree.ceiling(95));
+        assertEquals(50, tree.higher(30));
+        assertNull(tree.higher(90));
+        assertEquals(20, tree.lower(30));
+        assertNull(tree.lower(10));
+        assertEquals(90, tree.lower(1_000));
+    }
+
+    @Test
+    @DisplayName("Range should stream the values between the bounds in order")
+    void rangeShouldStreamValuesBetweenBounds() {
+        for (int value : List.of(50, 20, 80, 10, 30, 70, 90)) {
+            tree.insert(value);
+        }
+
+        assertEquals(List.of(20, 30, 50), tree.range(20, 70).toList());
+        assertEquals(List.of(30, 50, 70), tree.range(25, 71).toList());
+        assertEquals(List.of(10, 20, 30, 50, 70, 80, 90), tree.range(0, 100).toList());
+        assertEquals(List.of(), tree.range(31, 50).toList());
+        assertEquals(List.of(), tree.range(50, 50).toList());
+        assertEquals(3, tree.range(20, 70).count());
+        assertThrows(IllegalArgumentException.class, () -> tree.range(70, 20));
+        assertThrows(IllegalArgumentException.class, () -> tree.range(null, 20));
+    }
+
+    @Test
+    @DisplayName("Range should agree with filtering a full traversal")
+    void rangeShouldAgreeWithFilteredTraversal() {
+        Random random = new Random(11);
+        for (int i = 0; i < 2_000; i++) {
+            tree.insert(random.nextInt(10_000));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(10_000);
+            int to = from + random.nextInt(500);
+            List<Integer> expected = tree.stream().filter(value -> value >= from && value < to).toList();
+            assertEquals(expected, tree.range(from, to).toList());
+        }
+    }
+}
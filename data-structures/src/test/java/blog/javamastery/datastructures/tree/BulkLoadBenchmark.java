@@ -0,0 +1,53 @@
+package blog.javamastery.datastructures.tree;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares ways of loading a sorted snapshot into a balanced tree: building it with
+ * {@link BinarySearchTree#fromSorted(List)}, inserting into a {@link RedBlackTree}, and
+ * appending into a plain tree followed by {@link BinarySearchTree#rebalance()}.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=BulkLoadBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class BulkLoadBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Integer> sorted;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sorted = IntStream.range(0, size).boxed().toList();
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> fromSorted() {
+        return BinarySearchTree.fromSorted(sorted);
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> redBlackInserts() {
+        BinarySearchTree<Integer> tree = new RedBlackTree<>();
+        sorted.forEach(tree::insert);
+        return tree;
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> insertsThenRebalance() {
+        BinarySearchTree<Integer> tree = new BinarySearchTree<>();
+        sorted.forEach(tree::insert);
+        tree.rebalance();
+        return tree;
+    }
+}
@@ -0,0 +1,68 @@
+package blog.javamastery.datastructures.tree;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what a new version of a {@link PersistentTree} costs, compared with taking a
+ * snapshot of a mutable {@link BinarySearchTree} by copying it. A version copies only the
+ * nodes on one root-to-leaf path, so its memory overhead grows with log n while a copy
+ * grows with n.
+ * <p>
+ * The memory overhead per version is the {@code gc.alloc.rate.norm} column (bytes per
+ * operation) of the GC profiler. Run with:
+ * {@code mvn -Pbenchmark verify -Dbenchmark="PersistentTreeBenchmark -prof gc"}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistentTreeBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private PersistentTree<Integer> persistentTree;
+    private BinarySearchTree<Integer> mutableTree;
+    private Integer[] absent;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Even values are present, odd ones are inserted by the benchmarks
+        persistentTree = PersistentTree.empty();
+        mutableTree = new BinarySearchTree<>();
+        for (int i = 0; i < size; i++) {
+            persistentTree = persistentTree.insert(i * 2);
+            mutableTree.insert(i * 2);
+        }
+        mutableTree.rebalance();
+
+        absent = new Integer[1024];
+        for (int i = 0; i < absent.length; i++) {
+            absent[i] = (int) ((long) i * size / absent.length) * 2 + 1;
+        }
+    }
+
+    private Integer nextAbsent() {
+        Integer value = absent[cursor];
+        cursor = (cursor + 1) & (absent.length - 1);
+        return value;
+    }
+
+    @Benchmark
+    public PersistentTree<Integer> persistentInsert() {
+        return persistentTree.insert(nextAbsent());
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> copyThenInsert() {
+        BinarySearchTree<Integer> snapshot =
+                BinarySearchTree.fromSorted(mutableTree.traverse(BinarySearchTree.TraversalOrder.INORDER));
+        snapshot.insert(nextAbsent());
+        return snapshot;
+    }
+}
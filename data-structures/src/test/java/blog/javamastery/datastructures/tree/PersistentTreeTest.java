@@ -0,0 +1,163 @@
+package blog.javamastery.datastructures.tree;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Persistent Tree Operations")
+class PersistentTreeTest {
+
+    private static PersistentTree<Integer> treeOf(int... values) {
+        PersistentTree<Integer> tree = PersistentTree.empty();
+        for (int value : values) {
+            tree = tree.insert(value);
+        }
+        return tree;
+    }
+
+    @Test
+    @DisplayName("Updates should return new versions and leave old ones unchanged")
+    void updatesShouldLeaveOldVersionsUnchanged() {
+        PersistentTree<Integer> empty = PersistentTree.empty();
+        PersistentTree<Integer> v1 = empty.insert(50).insert(30).insert(70);
+        PersistentTree<Integer> v2 = v1.insert(40);
+        PersistentTree<Integer> v3 = v2.delete(30);
+
+        assertEquals(0, empty.size());
+        assertEquals(List.of(30, 50, 70), v1.stream().toList());
+        assertEquals(List.of(30, 40, 50, 70), v2.stream().toList());
+        assertEquals(List.of(40, 50, 70), v3.stream().toList());
+        assertFalse(v1.contains(40));
+        assertTrue(v2.contains(30));
+        assertFalse(v3.contains(30));
+    }
+
+    @Test
+    @DisplayName("No-op updates should return the same version")
+    void noOpUpdatesShouldReturnSameVersion() {
+        PersistentTree<Integer> tree = treeOf(50, 30, 70);
+
+        assertSame(tree, tree.insert(30));
+        assertSame(tree, tree.delete(40));
+        assertSame(PersistentTree.empty(), tree.delete(50).delete(30).delete(70));
+    }
+
+    @Test
+    @DisplayName("Null values should be rejected")
+    void nullValuesShouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PersistentTree.<Integer>empty().insert(null));
+        assertThrows(IllegalArgumentException.class, () -> PersistentTree.<Integer>empty().delete(null));
+    }
+
+    @Test
+    @DisplayName("Min and max should return the extreme values")
+    void minAndMaxShouldReturnExtremeValues() {
+        assertThrows(IllegalStateException.class, () -> PersistentTree.<Integer>empty().min());
+        assertThrows(IllegalStateException.class, () -> PersistentTree.<Integer>empty().max());
+
+        PersistentTree<Integer> tree = treeOf(50, 30, 70, 20, 40, 60, 80);
+        assertEquals(20, tree.min());
+        assertEquals(80, tree.max());
+    }
+
+    @Test
+    @DisplayName("Sorted insertions should keep the height logarithmic")
+    void sortedInsertionsShouldKeepHeightLogarithmic() {
+        PersistentTree<Integer> tree = treeOf(IntStream.range(0, 100_000).toArray());
+
+        assertEquals(100_000, tree.size());
+        // An AVL tree of n nodes is at most about 1.44 log2 n high
+        assertTrue(tree.height() <= 24, "height " + tree.height());
+    }
+
+    @Test
+    @DisplayName("Random insertions and deletions should match a TreeSet at every version")
+    void randomOperationsShouldMatchTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+        PersistentTree<Integer> tree = PersistentTree.empty();
+        List<PersistentTree<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> contents = new ArrayList<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                tree = tree.delete(value);
+                expected.remove(value);
+            } else {
+                tree = tree.insert(value);
+                expected.add(value);
+            }
+            if (i % 1_000 == 0) {
+                versions.add(tree);
+                contents.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected), tree.stream().toList());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(contents.get(i), versions.get(i).stream().toList());
+            assertEquals(contents.get(i).size(), versions.get(i).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Select, rank and range should work on any version")
+    void orderStatisticsAndRangeShouldWork() {
+        PersistentTree<Integer> tree = treeOf(50, 20, 80, 10, 30, 70, 90);
+
+        assertEquals(10, tree.select(0));
+        assertEquals(50, tree.select(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(7));
+        assertEquals(3, tree.rank(50));
+        assertEquals(4, tree.rank(55));
+        assertEquals(List.of(20, 30, 50), tree.range(20, 70).toList());
+        assertEquals(3, tree.range(20, 70).count());
+        assertThrows(IllegalArgumentException.class, () -> tree.range(70, 20));
+    }
+
+    @Test
+    @DisplayName("Readers should iterate stable snapshots while a writer publishes new versions")
+    void readersShouldIterateStableSnapshots() throws Exception {
+        int size = 2_000;
+        AtomicReference<PersistentTree<Integer>> current = new AtomicReference<>(treeOf(IntStream.range(0, size).toArray()));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                // Every version holds exactly `size` values: one removed, one added
+                for (int i = 0; i < 20_000; i++) {
+                    PersistentTree<Integer> version = current.get();
+                    current.set(version.delete(version.min()).insert(size + i));
+                }
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!writer.isDone()) {
+                        PersistentTree<Integer> snapshot = current.get();
+                        List<Integer> values = snapshot.stream().toList();
+                        assertEquals(size, values.size());
+                        for (int i = 1; i < values.size(); i++) {
+                            assertEquals(values.get(i - 1) + 1, values.get(i));
+                        }
+                    }
+                }));
+            }
+            writer.get(60, TimeUnit.SECONDS);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package blog.javamastery.datastructures.tree;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a narrow {@code range} query on a large {@link RedBlackTree} with the previous
+ * approach of filtering a full in-order traversal. The range stream only visits the path
+ * to the lower bound plus the matching values.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark verify -Dbenchmark=RangeQueryBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class RangeQueryBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    @Param({"10", "100", "1000"})
+    private int width;
+
+    private RedBlackTree<Integer> tree;
+    private Integer[] lowerBounds;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tree = new RedBlackTree<>();
+        for (int i = 0; i < SIZE; i++) {
+            tree.insert(i);
+        }
+
+        Random random = new Random(42);
+        lowerBounds = new Integer[1024];
+        for (int i = 0; i < lowerBounds.length; i++) {
+            lowerBounds[i] = random.nextInt(SIZE - width);
+        }
+    }
+
+    private Integer nextLowerBound() {
+        Integer from = lowerBounds[cursor];
+        cursor = (cursor + 1) & (lowerBounds.length - 1);
+        return from;
+    }
+
+    @Benchmark
+    public long range() {
+        Integer from = nextLowerBound();
+        return tree.range(from, from + width).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long filteredTraversal() {
+        Integer from = nextLowerBound();
+        int to = from + width;
+        return tree.traverse(BinarySearchTree.TraversalOrder.INORDER).stream()
+                .filter(value -> value >= from && value < to)
+                .mapToLong(Integer::longValue)
+                .sum();
+    }
+}
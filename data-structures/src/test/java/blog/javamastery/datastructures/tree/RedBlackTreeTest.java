@@ -0,0 +1,76 @@
+package blog.javamastery.datastructures.tree;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Red-Black Tree Operations")
+class RedBlackTreeTest extends BinarySearchTreeTest {
+
+    @Override
+    protected BinarySearchTree<Integer> createTree() {
+        return new RedBlackTree<>();
+    }
+
+    private static int maximumHeight(int size) {
+        // 2 log2(n + 1) bounds the number of nodes on a path; height counts edges
+        return (int) (2 * (Math.log(size + 1) / Math.log(2))) - 1;
+    }
+
+    @Test
+    @DisplayName("Sorted insertions should keep the height logarithmic")
+    void sortedInsertionsShouldKeepHeightLogarithmic() {
+        for (int i = 0; i < 100_000; i++) {
+            tree.insert(i);
+        }
+
+        assertEquals(100_000, tree.size());
+        assertTrue(tree.height() <= maximumHeight(100_000), "height " + tree.height());
+        assertTrue(tree.isValidBST());
+    }
+
+    @Test
+    @DisplayName("Random insertions and deletions should match a TreeSet")
+    void randomOperationsShouldMatchTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                tree.delete(value);
+                expected.remove(value);
+            } else {
+                tree.insert(value);
+                expected.add(value);
+            }
+        }
+
+        assertEquals(new ArrayList<>(expected), tree.traverse(BinarySearchTree.TraversalOrder.INORDER));
+        assertTrue(tree.height() <= maximumHeight(expected.size()));
+        assertTrue(tree.isValidBST());
+    }
+
+    @Test
+    @DisplayName("Deleting every value should leave an empty tree")
+    void deletingEveryValueShouldEmptyTree() {
+        for (int i = 0; i < 1_000; i++) {
+            tree.insert(i);
+        }
+        for (int i = 0; i < 1_000; i += 2) {
+            tree.delete(i);
+        }
+        assertTrue(tree.height() <= maximumHeight(500));
+
+        for (int i = 1; i < 1_000; i += 2) {
+            tree.delete(i);
+        }
+        assertEquals(0, tree.size());
+        assertEquals(-1, tree.height());
+    }
+}